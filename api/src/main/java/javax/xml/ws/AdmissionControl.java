@@ -0,0 +1,102 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Target;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import javax.xml.ws.spi.WebServiceFeatureAnnotation;
+
+/**
+ * This feature limits the number of requests an endpoint processes
+ * concurrently, and the number of requests waiting to be processed.
+ * <p>
+ * This annotation MUST only be used in conjunction the
+ * {@code javax.jws.WebService} and {@link WebServiceProvider}
+ * annotations, on the service endpoint implementation class. It is
+ * ignored when used with a {@link WebServiceRef} annotation.
+ * <p>
+ *
+ * This annotation's behaviour is defined by the corresponding feature
+ * {@link AdmissionControlFeature}.
+ *
+ * @see AdmissionControlFeature
+ *
+ * @since JAX-WS 2.4
+ */
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@WebServiceFeatureAnnotation(id=AdmissionControlFeature.ID,bean=AdmissionControlFeature.class)
+public @interface AdmissionControl {
+    /**
+     * Specifies if this feature is enabled or disabled.
+     *
+     * @return {@code true} if this feature is enabled, {@code false} otherwise
+     */
+    boolean enabled() default true;
+
+    /**
+     * The maximum number of requests processed at a time. The value of
+     * this property MUST be {@literal >=} 1.
+     *
+     * @return the concurrency limit
+     */
+    int maxConcurrentRequests();
+
+    /**
+     * The maximum number of requests waiting to be processed. The value
+     * of this property MUST be {@literal >=} 0. Default value is 0.
+     *
+     * @return the queue depth
+     */
+    int queueDepth() default 0;
+
+    /**
+     * How requests are rejected when the queue is full.
+     *
+     * @return the rejection policy
+     */
+    AdmissionControlFeature.RejectionPolicy rejectionPolicy()
+            default AdmissionControlFeature.RejectionPolicy.FAULT;
+}
@@ -0,0 +1,187 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws;
+
+/**
+ * This feature limits the number of requests an endpoint processes
+ * concurrently, and the number of requests waiting to be processed.
+ *
+ * This feature can be used during the creation of {@link Endpoint}
+ * instances on the server side, including through
+ * {@link javax.xml.ws.spi.Provider#createEndpoint(String, Object, WebServiceFeature...)}.
+ * This feature is ignored on the client side.
+ *
+ * <p>
+ * The following describes the affects of this feature with respect
+ * to being enabled or disabled:
+ * <ul>
+ *  <li> ENABLED: In this Mode, at most {@link #getMaxConcurrentRequests}
+ * requests are dispatched to the implementor at a time. Further requests
+ * wait in a queue of at most {@link #getQueueDepth} requests, in the
+ * order they were received, without occupying a thread of the executor
+ * of the endpoint. A request arriving when the queue is full is rejected
+ * at once, before its body is read, as specified by the
+ * {@link #getRejectionPolicy rejection policy}. One-way requests are
+ * subject to the same limits.
+ *  <li> DISABLED: In this Mode, admission of requests is
+ * implementation-specific, and is usually only bounded by the executor
+ * of the endpoint.
+ * </ul>
+ *
+ * @see AdmissionControl
+ * @see Endpoint#setExecutor
+ *
+ * @since JAX-WS 2.4
+ */
+public final class AdmissionControlFeature extends WebServiceFeature {
+    /**
+     * Constant value identifying the AdmissionControlFeature
+     */
+    public static final String ID = "javax.xml.ws.AdmissionControlFeature";
+
+    /**
+     * How a request is rejected when the endpoint is saturated.
+     */
+    public enum RejectionPolicy {
+        /**
+         * The request is answered with a SOAP fault with a
+         * {@code Server} (SOAP 1.1) or {@code Receiver} (SOAP 1.2) fault
+         * code, sent with the status required by the binding. For a non
+         * SOAP binding, the request is rejected as
+         * {@link #SERVICE_UNAVAILABLE}.
+         */
+        FAULT,
+
+        /**
+         * The request is answered with the HTTP status 503 (Service
+         * Unavailable) and no body, so that the client or a load balancer
+         * can retry it elsewhere.
+         */
+        SERVICE_UNAVAILABLE
+    }
+
+    private final int maxConcurrentRequests;
+    private final int queueDepth;
+    private final RejectionPolicy rejectionPolicy;
+
+    /**
+     * Creates an {@code AdmissionControlFeature}.
+     * The instance created will be enabled.
+     *
+     * @param maxConcurrentRequests the maximum number of requests
+     * processed at a time
+     * @param queueDepth the maximum number of requests waiting to be
+     * processed, 0 meaning that requests are rejected as soon as
+     * maxConcurrentRequests requests are being processed
+     * @param rejectionPolicy how requests are rejected when the queue
+     * is full
+     *
+     * @throws WebServiceException if maxConcurrentRequests is {@literal <}
+     * 1, queueDepth is {@literal <} 0 or rejectionPolicy is {@code null}
+     */
+    public AdmissionControlFeature(int maxConcurrentRequests, int queueDepth,
+            RejectionPolicy rejectionPolicy) {
+        this(true, maxConcurrentRequests, queueDepth, rejectionPolicy);
+    }
+
+    /**
+     * Creates an {@code AdmissionControlFeature}.
+     *
+     * @param enabled specifies if this feature should be enabled or not
+     * @param maxConcurrentRequests the maximum number of requests
+     * processed at a time
+     * @param queueDepth the maximum number of requests waiting to be
+     * processed, 0 meaning that requests are rejected as soon as
+     * maxConcurrentRequests requests are being processed
+     * @param rejectionPolicy how requests are rejected when the queue
+     * is full
+     *
+     * @throws WebServiceException if maxConcurrentRequests is {@literal <}
+     * 1, queueDepth is {@literal <} 0 or rejectionPolicy is {@code null}
+     */
+    public AdmissionControlFeature(boolean enabled, int maxConcurrentRequests, int queueDepth,
+            RejectionPolicy rejectionPolicy) {
+        if (maxConcurrentRequests < 1)
+            throw new WebServiceException("AdmissionControlFeature.maxConcurrentRequests must be >= 1, actual value: "+maxConcurrentRequests);
+        if (queueDepth < 0)
+            throw new WebServiceException("AdmissionControlFeature.queueDepth must be >= 0, actual value: "+queueDepth);
+        if (rejectionPolicy == null)
+            throw new WebServiceException("AdmissionControlFeature.rejectionPolicy must not be null");
+        this.enabled = enabled;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.queueDepth = queueDepth;
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getID() {
+        return ID;
+    }
+
+    /**
+     * Gets the maximum number of requests processed at a time.
+     *
+     * @return the concurrency limit
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Gets the maximum number of requests waiting to be processed.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Gets how requests are rejected when the queue is full.
+     *
+     * @return the rejection policy
+     */
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ *  <p>Service endpoints may implement the {@code AsyncProvider}
+ *  interface as an asynchronous alternative to {@link Provider}.
+ *
+ *  <p>The {@code invoke} method of an {@code AsyncProvider} starts the
+ *  processing of a request and returns without waiting for its result,
+ *  which is delivered later through the returned {@code CompletionStage}.
+ *  The thread which invoked the endpoint, for example a thread of the
+ *  {@link Endpoint#getExecutor() executor} of the endpoint, is thus not
+ *  held while the endpoint waits for a long-latency operation. The JAX-WS
+ *  runtime sends the response, and runs the outbound handlers, when the
+ *  stage completes, possibly in the thread which completes it.
+ *
+ *  <p>The supported types of request and the meaning of the
+ *  {@link ServiceMode} annotation are the same as for {@code Provider}.
+ *  An {@code AsyncProvider} implementation class is annotated with
+ *  {@link WebServiceProvider}.
+ *
+ *  <p>An endpoint published using {@link Endpoint#publish(javax.xml.ws.spi.http.HttpContext)}
+ *  only releases the container thread if the container supports
+ *  asynchronous exchanges, see
+ *  {@link javax.xml.ws.spi.http.HttpExchange#startAsync}.
+ *
+ * @param <T> The type of the request
+ *
+ *  @see javax.xml.ws.Provider
+ *  @see javax.xml.ws.ServiceMode
+ *
+ *  @since JAX-WS 2.4
+**/
+public interface AsyncProvider<T> {
+
+  /** Starts an operation according to the contents of the request
+   *  message. This method SHOULD NOT block.
+   *
+   *  <p>The {@link WebServiceContext} of the endpoint, and the message
+   *  context it provides, are only valid for this request until the
+   *  returned stage completes, and must not be used from other requests.
+   *
+   *  @param  request The request message or message payload.
+   *  @return A stage completing with the response message or message
+   *          payload. The stage may complete with {@code null} if there is
+   *          no response. If the stage completes exceptionally with a
+   *          {@code WebServiceException}, whose cause may be set to a
+   *          subclass of {@code ProtocolException}, the JAX-WS runtime
+   *          generates a fault as if {@link Provider#invoke} had thrown
+   *          the exception.
+   *  @throws WebServiceException If there is an error starting the
+   *          processing of the request.
+   *  @see javax.xml.ws.handler.MessageContext
+   *  @see javax.xml.ws.ProtocolException
+  **/
+  public CompletionStage<T> invoke(T request);
+}
@@ -52,6 +52,8 @@ public interface Binding {
     * Gets a copy of the handler chain for a protocol binding instance.
     * If the returned chain is modified a call to {@code setHandlerChain}
     * is required to configure the binding instance with the new chain.
+    * Only the list is copied, the returned list contains the same
+    * handler instances as the binding.
     *
     *  @return {@code java.util.List<Handler>} Handler chain
     */
@@ -60,6 +62,13 @@ public interface Binding {
    /** 
     * Sets the handler chain for the protocol binding instance.
     *
+    * <p>Handler instances whose class is annotated with
+    * {@link javax.xml.ws.handler.ThreadSafe} may be set on any number of
+    * binding instances at the same time. The JAX-WS runtime MUST use
+    * such instances as given and MUST NOT copy or re-create them for
+    * this binding. Instances of other handlers MUST NOT be set on more
+    * than one binding instance.
+    *
     *  @param chain    A List of handler configuration entries
     *  @throws WebServiceException On an error in the configuration of
     *                  the handler chain
@@ -70,6 +79,27 @@ public interface Binding {
     */
     public void setHandlerChain(java.util.List<javax.xml.ws.handler.Handler> chain);
 
+   /**
+    * Gets the handler chain for this protocol binding instance in its
+    * precompiled form, as used by the JAX-WS runtime for dispatching
+    * messages. The returned chain reflects the handler chain most
+    * recently set using {@code setHandlerChain}.
+    *
+    * <p>The default implementation compiles the result of
+    * {@code getHandlerChain} on every call; JAX-WS implementations
+    * SHOULD override it and return a chain compiled once, when the
+    * handler chain is set.
+    *
+    *  @return the compiled handler chain, never {@code null}
+    *  @throws WebServiceException If the handler chain can not be compiled
+    *
+    *  @see javax.xml.ws.handler.CompiledHandlerChain
+    *  @since JAX-WS 2.4
+    */
+    public default javax.xml.ws.handler.CompiledHandlerChain getCompiledHandlerChain() {
+        return javax.xml.ws.handler.CompiledHandlerChain.compile(getHandlerChain());
+    }
+
     /** 
      * Get the URI for this binding instance. 
      *
@@ -119,6 +119,19 @@ public interface BindingProvider {
     public static final String SOAPACTION_URI_PROPERTY =
             "javax.xml.ws.soap.http.soapaction.uri";
 
+    /**
+     * Standard property: Metrics of the pool of HTTP connections used for
+     * the last request, set in the response context when the
+     * {@link javax.xml.ws.http.ConnectionPoolFeature} is enabled. The
+     * metrics are a live view which remains valid after the request.
+     *
+     * <p>Type: {@code javax.xml.ws.http.ConnectionPoolMetrics}
+     *
+     * @since JAX-WS 2.4
+     **/
+    public static final String CONNECTION_POOL_METRICS_PROPERTY =
+            "javax.xml.ws.http.connection.pool.metrics";
+
     /**
      * Get the context that is used to initialize the message context
      * for request messages.
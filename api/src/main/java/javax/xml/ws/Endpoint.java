@@ -42,6 +42,7 @@ package javax.xml.ws;
 
 import java.util.List;
 import java.util.Map;
+import javax.xml.ws.metrics.EndpointMetrics;
 import javax.xml.ws.spi.Provider;
 import javax.xml.ws.spi.http.HttpContext;
 import javax.xml.ws.wsaddressing.W3CEndpointReference;
@@ -66,7 +67,10 @@ import org.w3c.dom.Element;
  * to gain better control over the threads used to dispatch incoming
  * requests. For instance, thread pooling with certain parameters
  * can be enabled by creating a {@code ThreadPoolExecutor} and
- * registering it with the endpoint.
+ * registering it with the endpoint. For an implementor which is an
+ * {@link AsyncProvider}, a thread of the executor is only used until the
+ * {@code invoke} method of the implementor returns, not until the response
+ * is available.
  *
  * <p>Handler chains can be set using the contained {@code Binding}.
  *
@@ -81,6 +85,7 @@ import org.w3c.dom.Element;
  * @see javax.xml.ws.Binding
  * @see javax.xml.ws.BindingType
  * @see javax.xml.ws.soap.SOAPBinding
+ * @see javax.xml.ws.AsyncProvider
  * @see java.util.concurrent.Executor
  *
  **/
@@ -408,6 +413,10 @@ public abstract class Endpoint {
      * context defines its own threading behavior, the executor
      * may be ignored.
      *
+     * The executor does not bound the number of requests accepted by
+     * the endpoint; the {@link AdmissionControlFeature} can be used to
+     * limit concurrent and queued requests.
+     *
      * @param executor The {@code java.util.concurrent.Executor}
      *        to be used to dispatch a request.
      *
@@ -416,6 +425,7 @@ public abstract class Endpoint {
      *         necessary permissions are missing).
      *
      * @see java.util.concurrent.Executor
+     * @see AdmissionControlFeature
      **/
     public abstract void setExecutor(java.util.concurrent.Executor executor);
 
@@ -435,6 +445,24 @@ public abstract class Endpoint {
      **/
     public abstract void setProperties(Map<String,Object> properties);
 
+    /**
+     * Returns the runtime statistics of this {@code Endpoint} instance:
+     * request, in-flight and fault counts, request latencies and
+     * bytes received and sent. The returned metrics are read-only: they
+     * are updated by the JAX-WS implementation as requests are processed,
+     * and are kept when the endpoint is stopped.
+     *
+     * @return the metrics of this endpoint
+     * @throws UnsupportedOperationException if the JAX-WS implementation
+     *         does not record metrics
+     *
+     * @see EndpointContext#getMetrics
+     * @since JAX-WS 2.4
+     */
+    public EndpointMetrics getMetrics() {
+        throw new UnsupportedOperationException("JAX-WS 2.4 implementation must override this default behaviour.");
+    }
+
     /**
      * Returns the {@code EndpointReference} associated with
      * this {@code Endpoint} instance.
@@ -40,7 +40,10 @@
 
 package javax.xml.ws;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import javax.xml.ws.metrics.EndpointMetrics;
 
 /**
  * {@code EndpointContext} allows multiple endpoints in an application
@@ -70,4 +73,26 @@ public abstract class EndpointContext {
      */
     public abstract Set<Endpoint> getEndpoints();
 
+    /**
+     * Returns the sum of the metrics of the endpoints of this context,
+     * as returned by {@link #getEndpoints}. Endpoints which do not record
+     * metrics are not included. The returned metrics are a snapshot and
+     * are not updated afterwards.
+     *
+     * @return the aggregated metrics of the endpoints
+     * @see Endpoint#getMetrics
+     * @since JAX-WS 2.4
+     */
+    public EndpointMetrics getMetrics() {
+        List<EndpointMetrics> metrics = new ArrayList<EndpointMetrics>();
+        for (Endpoint endpoint : getEndpoints()) {
+            try {
+                metrics.add(endpoint.getMetrics());
+            } catch (UnsupportedOperationException e) {
+                // endpoint of an implementation without metrics
+            }
+        }
+        return EndpointMetrics.aggregate(metrics);
+    }
+
 }
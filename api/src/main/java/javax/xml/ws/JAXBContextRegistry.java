@@ -0,0 +1,112 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+/**
+ * A registry of {@code JAXBContext} instances, one per Java type.
+ * <p>
+ * Creating a {@code JAXBContext} is expensive, while a context can be used
+ * concurrently by any number of threads. Handlers and other application
+ * code should therefore not create a new context for every message, as in
+ * <pre>
+ *  Foo foo = (Foo) message.getPayload(JAXBContext.newInstance(Foo.class));
+ * </pre>
+ * but use a shared context, for example:
+ * <pre>
+ *  Foo foo = (Foo) message.getPayload(JAXBContextRegistry.getContext(Foo.class));
+ *  Foo foo = message.getPayloadAs(Foo.class);
+ * </pre>
+ * <p>
+ * Contexts are created on first use with {@code JAXBContext.newInstance}
+ * and are associated with the class they are created for in the same way
+ * as {@link ClassValue} values: the registry does not prevent a class, or
+ * its class loader, from being garbage collected.
+ *
+ * @see LogicalMessage#getPayloadAs(Class)
+ * @see javax.xml.ws.handler.soap.SOAPMessageContext#getHeadersAs(javax.xml.namespace.QName, Class, boolean)
+ *
+ * @since JAX-WS 2.4
+ */
+public final class JAXBContextRegistry {
+
+    private static final ClassValue<JAXBContext> CONTEXTS = new ClassValue<JAXBContext>() {
+        @Override
+        protected JAXBContext computeValue(Class<?> type) {
+            try {
+                return JAXBContext.newInstance(type);
+            } catch (JAXBException e) {
+                throw new WebServiceException("Error creating JAXBContext for " + type.getName(), e);
+            }
+        }
+    };
+
+    private JAXBContextRegistry() {
+    }
+
+    /**
+     * Gets the {@code JAXBContext} for the given class, creating it on
+     * first use.
+     *
+     * @param type the class to be bound
+     * @return the shared {@code JAXBContext} for {@code type}
+     * @throws WebServiceException If the {@code JAXBContext} can not be
+     *     created. The cause of the {@code WebServiceException} is the
+     *     original {@code JAXBException}.
+     * @throws NullPointerException if {@code type} is {@code null}
+     */
+    public static JAXBContext getContext(Class<?> type) {
+        return CONTEXTS.get(type);
+    }
+
+    /**
+     * Removes the {@code JAXBContext} of the given class from the registry.
+     * A new context is created the next time one is requested for the class.
+     *
+     * @param type the class
+     * @throws NullPointerException if {@code type} is {@code null}
+     */
+    public static void remove(Class<?> type) {
+        CONTEXTS.remove(type);
+    }
+}
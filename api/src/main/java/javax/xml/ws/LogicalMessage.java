@@ -40,8 +40,10 @@
 
 package javax.xml.ws;
 
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 
 /** The {@code LogicalMessage} interface represents a
  *  protocol agnostic XML message and contains methods that
@@ -92,6 +94,35 @@ public interface LogicalMessage {
   **/
   public Object getPayload(JAXBContext context);
 
+  /** Gets the message payload as a JAXB object of the given type, using
+   *  the {@code JAXBContext} of the type from {@link JAXBContextRegistry}.
+   *  Note that there is no connection between the returned object and the
+   *  message payload, changes to the payload require calling
+   *  {@code setPayload}.
+   *
+   *  <p>If the payload unmarshals to a {@code JAXBElement}, its value
+   *  is returned.
+   *
+   *  @param  <T> type of the payload
+   *  @param  type the class the payload is bound to
+   *  @return The contained message payload; returns {@code null} if no
+   *          payload is present in this message
+   *  @throws WebServiceException If the payload can not be unmarshalled
+   *     to an object of the given type.
+   *
+   *  @since JAX-WS 2.4
+  **/
+  public default <T> T getPayloadAs(Class<T> type) {
+    Object payload = getPayload(JAXBContextRegistry.getContext(type));
+    if (payload instanceof JAXBElement && !type.isInstance(payload)) {
+      payload = ((JAXBElement<?>) payload).getValue();
+    }
+    if (payload != null && !type.isInstance(payload)) {
+      throw new WebServiceException("Payload is not a " + type.getName() + ": " + payload.getClass().getName());
+    }
+    return type.cast(payload);
+  }
+
   /** Sets the message payload
    *
    *  @param  payload message payload
@@ -104,4 +135,86 @@ public interface LogicalMessage {
    *     the WebServiceException is the original JAXBException.
   **/
   public void setPayload(Object payload, JAXBContext context);
+
+  /** Gets the message payload as a stream of StAX events, without
+   *  building a tree representation of the payload. This is intended for
+   *  handlers which only read the payload, such as logging or routing
+   *  handlers.
+   *
+   *  <p>Each returned reader is one-shot: it is positioned before the
+   *  first event of the payload and can only be read forward once, after
+   *  which it should be closed. Implementations MUST NOT consume the
+   *  payload when it is read: it remains available to the other methods
+   *  of this {@code LogicalMessage}, to other handlers and to the
+   *  endpoint, and each call of this method returns a new reader
+   *  replaying the payload from its beginning. Implementations SHOULD
+   *  serve the reader from the serialized form of the message without
+   *  keeping more than a bounded part of the payload in memory.
+   *
+   *  <p>The returned reader provides read access only, use
+   *  {@code setPayload} to change the payload. Obtaining a reader
+   *  does not mark the payload as modified, see
+   *  {@link #isPayloadModified}.
+   *
+   *  <p>The default implementation creates a one-shot reader from the
+   *  {@code Source} returned by {@link #getReadOnlyPayload()}, and does
+   *  not meet the requirements above: it reads a {@code StAXSource} or
+   *  {@code StreamSource} directly, which may consume the payload, and
+   *  it serializes other sources in memory on each call. JAX-WS 2.4
+   *  implementations MUST override this method.
+   *
+   *  @return a reader of the message payload; returns {@code null} if no
+   *          payload is present in this message
+   *  @throws WebServiceException If any error during the creation of
+   *          the reader
+   *
+   *  @since JAX-WS 2.4
+  **/
+  public default XMLStreamReader getPayloadReader() {
+    Source payload = getReadOnlyPayload();
+    return payload == null ? null : PayloadReaders.createReader(payload);
+  }
+
+  /** Gets the message payload as an XML source for reading only.
+   *
+   *  <p>Unlike {@link #getPayload()}, the returned {@code Source} MUST NOT
+   *  be used to modify the payload, even if it is a {@code DOMSource};
+   *  the effect of such a modification is undefined. Calling this method
+   *  does not mark the payload as modified, so that an implementation
+   *  may pass the payload on in its original serialized form if no
+   *  handler changes it.
+   *
+   *  <p>The default implementation returns {@link #getPayload()}.
+   *
+   *  @return The contained message payload; returns {@code null} if no
+   *          payload is present in this message.
+   *
+   *  @see #isPayloadModified
+   *  @since JAX-WS 2.4
+  **/
+  public default Source getReadOnlyPayload() {
+    return getPayload();
+  }
+
+  /** Returns whether the payload may have been modified since the message
+   *  was created or received. The payload is considered modified once
+   *  one of the {@code setPayload} methods has been called, or a
+   *  {@code DOMSource} allowing in-place modification has been returned
+   *  by {@link #getPayload()}. Reading the payload using
+   *  {@link #getReadOnlyPayload}, {@link #getPayloadReader} or
+   *  {@link #getPayload(JAXBContext)} does not modify it.
+   *
+   *  <p>A JAX-WS runtime may use this method to avoid serializing an
+   *  unmodified payload again and to pass on its original form instead.
+   *
+   *  <p>The default implementation always returns {@code true}.
+   *
+   *  @return {@code false} if the payload is known to be unmodified,
+   *          {@code true} otherwise
+   *
+   *  @since JAX-WS 2.4
+  **/
+  public default boolean isPayloadModified() {
+    return true;
+  }
 }
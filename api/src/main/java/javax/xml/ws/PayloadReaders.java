@@ -0,0 +1,163 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Default StAX based payload access for {@link LogicalMessage}.
+ * <p>
+ * Payloads are parsed with DTDs and external entities disabled, so that
+ * reading a received message never accesses local files or the network.
+ */
+final class PayloadReaders {
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private static final TransformerFactory TRANSFORMER_FACTORY = createTransformerFactory();
+
+    private PayloadReaders() {
+    }
+
+    static XMLStreamReader createReader(Source payload) {
+        if (payload instanceof StAXSource) {
+            XMLStreamReader reader = ((StAXSource) payload).getXMLStreamReader();
+            if (reader != null) {
+                return reader;
+            }
+        }
+        try {
+            if (payload instanceof StreamSource) {
+                return INPUT_FACTORY.createXMLStreamReader(payload);
+            }
+            if (payload instanceof SAXSource) {
+                SAXSource sax = (SAXSource) payload;
+                if (sax.getXMLReader() == null && sax.getInputSource() != null) {
+                    return createReader(sax.getInputSource());
+                }
+                disableExternalEntities(sax.getXMLReader());
+            }
+            // other sources are not supported by all StAX implementations
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            newTransformer().transform(payload, new StreamResult(bytes));
+            return INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(bytes.toByteArray()));
+        } catch (XMLStreamException e) {
+            throw new WebServiceException("Error reading the message payload", e);
+        } catch (TransformerException e) {
+            throw new WebServiceException("Error reading the message payload", e);
+        }
+    }
+
+    private static XMLStreamReader createReader(InputSource input) throws XMLStreamException {
+        if (input.getCharacterStream() != null) {
+            return INPUT_FACTORY.createXMLStreamReader(input.getSystemId(), input.getCharacterStream());
+        }
+        if (input.getByteStream() != null) {
+            if (input.getEncoding() != null) {
+                return INPUT_FACTORY.createXMLStreamReader(input.getByteStream(), input.getEncoding());
+            }
+            return INPUT_FACTORY.createXMLStreamReader(input.getSystemId(), input.getByteStream());
+        }
+        return INPUT_FACTORY.createXMLStreamReader(new StreamSource(input.getSystemId()));
+    }
+
+    private static void disableExternalEntities(XMLReader reader) {
+        if (reader == null) {
+            return;
+        }
+        // readers which do not parse text, such as the one of a JAXBSource,
+        // may not recognize these features
+        setFeature(reader, "http://xml.org/sax/features/external-general-entities", false);
+        setFeature(reader, "http://xml.org/sax/features/external-parameter-entities", false);
+        setFeature(reader, "http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+    }
+
+    private static void setFeature(XMLReader reader, String name, boolean value) {
+        try {
+            reader.setFeature(name, value);
+        } catch (SAXException e) {
+            // not supported by this reader
+        }
+    }
+
+    private static Transformer newTransformer() throws TransformerConfigurationException {
+        // TransformerFactory is not guaranteed to be thread safe
+        synchronized (TRANSFORMER_FACTORY) {
+            return TRANSFORMER_FACTORY.newTransformer();
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+
+    private static TransformerFactory createTransformerFactory() {
+        TransformerFactory factory = TransformerFactory.newInstance();
+        try {
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        } catch (TransformerConfigurationException e) {
+            throw new WebServiceException(e);
+        }
+        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+        return factory;
+    }
+}
@@ -59,6 +59,8 @@ package javax.xml.ws;
  *  @see javax.xml.transform.Source
  *  @see javax.xml.soap.SOAPMessage
  *  @see javax.xml.ws.ServiceMode
+ *  @see javax.xml.ws.AsyncProvider
+ *  @see javax.xml.ws.StreamingProvider
 **/
 public interface Provider<T> {
 
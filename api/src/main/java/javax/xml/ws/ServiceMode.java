@@ -50,6 +50,8 @@ import java.lang.annotation.Inherited;
 /**
  * Used to indicate whether a {@link Provider} implementation wishes to work
  * with entire protocol messages or just with protocol message payloads.
+ * It applies to {@link AsyncProvider} and {@link StreamingProvider}
+ * implementations in the same way.
  *
  *  @since 1.6, JAX-WS 2.0
 **/
@@ -0,0 +1,112 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ *  <p>Service endpoints may implement the {@code StreamingProvider}
+ *  interface to process requests and generate responses as byte streams,
+ *  so that the memory used by the endpoint does not depend on the size of
+ *  the messages. Like a {@link Provider}, a {@code StreamingProvider}
+ *  implementation class is annotated with {@link WebServiceProvider}.
+ *
+ *  <p>The {@link ServiceMode} annotation controls the content of the
+ *  streams:
+ *  <ul>
+ *  <li>{@code MESSAGE}: the request stream contains the entire protocol
+ *  message as received, for example a SOAP envelope or a MIME multipart
+ *  package, and the response stream receives the entire protocol
+ *  response message. The content type of the request is available from
+ *  {@link javax.xml.ws.handler.MessageContext#HTTP_REQUEST_HEADERS}; the
+ *  content type of the response may be set in
+ *  {@link javax.xml.ws.handler.MessageContext#HTTP_RESPONSE_HEADERS}
+ *  before the first byte of the response is written, otherwise the
+ *  content type of the binding is used.</li>
+ *  <li>{@code PAYLOAD}: the request stream contains the message payload
+ *  as an XML document encoded in UTF-8, and the response stream receives
+ *  the response payload, which the JAX-WS runtime encloses in a protocol
+ *  message as it is written.</li>
+ *  </ul>
+ *
+ *  <p>The message context of the request is available through an
+ *  injected {@link WebServiceContext}. Handlers are not supported for
+ *  streaming endpoints in {@code PAYLOAD} mode, and only handlers which do not
+ *  access the message are supported in {@code MESSAGE} mode.
+ *
+ *  @see javax.xml.ws.Provider
+ *  @see javax.xml.ws.ServiceMode
+ *
+ *  @since JAX-WS 2.4
+**/
+public interface StreamingProvider {
+
+  /** Invokes an operation according to the contents of the request
+   *  message.
+   *
+   *  <p>The request stream is provided by the JAX-WS runtime and need not
+   *  be read to its end. The response stream is provided by the JAX-WS
+   *  runtime and is closed by the runtime when this method returns.
+   *  If nothing is written to the response stream there is no response.
+   *
+   *  <p>If an exception is thrown before anything is written to the
+   *  response stream, the JAX-WS runtime generates a fault as for
+   *  {@link Provider#invoke}. If an exception is thrown after the response
+   *  has been partially written, the runtime MUST abort the response, for
+   *  example by closing the connection, rather than send an incomplete
+   *  message.
+   *
+   *  @param  request The request message or message payload.
+   *  @param  response The stream to which the response message or
+   *          message payload is written.
+   *  @throws IOException If an I/O error occurs while reading the request
+   *          or writing the response.
+   *  @throws WebServiceException If there is an error processing request.
+   *          The cause of the {@code WebServiceException} may be set to a subclass
+   *          of {@code ProtocolException} to control the protocol level
+   *          representation of the exception.
+   *  @see javax.xml.ws.handler.MessageContext
+   *  @see javax.xml.ws.ProtocolException
+  **/
+  public void invoke(InputStream request, OutputStream response) throws IOException;
+}
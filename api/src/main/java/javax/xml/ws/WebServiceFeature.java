@@ -56,8 +56,11 @@ package javax.xml.ws;
  * use a vendor specific namespace in the ID string.
  *
  * @see javax.xml.ws.RespectBindingFeature
+ * @see javax.xml.ws.AdmissionControlFeature
  * @see javax.xml.ws.soap.AddressingFeature
  * @see javax.xml.ws.soap.MTOMFeature
+ * @see javax.xml.ws.soap.CompressionFeature
+ * @see javax.xml.ws.http.ConnectionPoolFeature
  *
  * @since 1.6, JAX-WS 2.1
  */
@@ -50,6 +50,8 @@ import java.lang.annotation.RetentionPolicy;
  *
  * @since 1.6, JAX-WS 2.0
  * @see javax.xml.ws.Provider
+ * @see javax.xml.ws.AsyncProvider
+ * @see javax.xml.ws.StreamingProvider
  */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
@@ -0,0 +1,164 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.namespace.QName;
+
+/**
+ * A {@link HandlerResolver} decorator that caches the handler chains
+ * returned by another {@code HandlerResolver}.
+ * <p>
+ * Handler chains are cached per port, keyed by the service name, the port
+ * name and the binding identifier of the {@link PortInfo}. Only chains in
+ * which every handler is annotated with {@link ThreadSafe} are cached, since
+ * only such handler instances may be shared across ports and threads.
+ * For any other chain the wrapped resolver is consulted on every call.
+ * <p>
+ * Each call returns a new {@code List} so that the caller may modify
+ * the returned chain without affecting the cache; the handler
+ * instances themselves are shared.
+ *
+ * <pre>
+ *  service.setHandlerResolver(new CachingHandlerResolver(resolver));
+ * </pre>
+ *
+ * @see javax.xml.ws.Service#setHandlerResolver
+ *
+ * @since JAX-WS 2.4
+ */
+public class CachingHandlerResolver implements HandlerResolver {
+
+    private final HandlerResolver resolver;
+    private final ConcurrentMap<PortKey, List<Handler>> chains =
+            new ConcurrentHashMap<PortKey, List<Handler>>();
+
+    /**
+     * Creates a {@code CachingHandlerResolver}.
+     *
+     * @param resolver the resolver whose handler chains are cached
+     * @throws NullPointerException if {@code resolver} is {@code null}
+     */
+    public CachingHandlerResolver(HandlerResolver resolver) {
+        if (resolver == null) {
+            throw new NullPointerException("resolver");
+        }
+        this.resolver = resolver;
+    }
+
+    /**
+     * Gets the handler chain for the specified port. A cached chain is
+     * returned if one is available for the port, otherwise the chain is
+     * obtained from the wrapped resolver and cached if it may be shared.
+     *
+     * @param portInfo Contains information about the port being accessed.
+     * @return {@code java.util.List<Handler>} chain
+     */
+    @Override
+    public List<Handler> getHandlerChain(PortInfo portInfo) {
+        PortKey key = new PortKey(portInfo);
+        List<Handler> chain = chains.get(key);
+        if (chain == null) {
+            chain = resolver.getHandlerChain(portInfo);
+            if (chain == null || !isShareable(chain)) {
+                return chain;
+            }
+            List<Handler> cached = chains.putIfAbsent(key, new ArrayList<Handler>(chain));
+            if (cached != null) {
+                chain = cached;
+            }
+        }
+        return new ArrayList<Handler>(chain);
+    }
+
+    /**
+     * Discards all the cached handler chains.
+     */
+    public void clear() {
+        chains.clear();
+    }
+
+    private static boolean isShareable(List<Handler> chain) {
+        for (Handler handler : chain) {
+            if (handler == null || !Handler.isThreadSafe(handler)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // identity of a port as seen by a HandlerResolver
+    private static final class PortKey {
+
+        private final QName serviceName;
+        private final QName portName;
+        private final String bindingID;
+
+        PortKey(PortInfo portInfo) {
+            this.serviceName = portInfo.getServiceName();
+            this.portName = portInfo.getPortName();
+            this.bindingID = portInfo.getBindingID();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PortKey)) {
+                return false;
+            }
+            PortKey that = (PortKey) obj;
+            return Objects.equals(serviceName, that.serviceName)
+                    && Objects.equals(portName, that.portName)
+                    && Objects.equals(bindingID, that.bindingID);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serviceName, portName, bindingID);
+        }
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.xml.namespace.QName;
+import javax.xml.ws.WebServiceException;
+import javax.xml.ws.handler.soap.SOAPHandler;
+
+/**
+ * An immutable, precompiled form of a handler chain.
+ * <p>
+ * A {@code CompiledHandlerChain} separates the handlers of a chain into
+ * logical handlers and protocol handlers once, when the chain is
+ * configured, so that a JAX-WS runtime does not need to iterate a
+ * {@code List} and test the type of each handler for every message.
+ * Handlers are kept in the order in which they are invoked for an
+ * outbound message: all the logical handlers first, followed by all the
+ * protocol handlers, each group in the order of the original chain. The
+ * SOAP handlers among the protocol handlers are also available, in the
+ * same order, through {@link #getSOAPHandler}; for the chain of a SOAP
+ * binding, which only contains SOAP protocol handlers, both sequences are
+ * the same. A runtime dispatching a chain which may mix SOAP handlers with
+ * other protocol handlers uses {@link #getProtocolHandler}, which keeps
+ * their relative order.
+ * <p>
+ * The chain also holds the union of the header blocks returned by
+ * {@link SOAPHandler#getHeaders()} of all its SOAP handlers, and the
+ * messages each handler declared interest in using {@link HandlerInterest},
+ * so that a runtime can skip handlers without looking up
+ * {@link MessageContext#MESSAGE_OUTBOUND_PROPERTY} and invoking them.
+ * <p>
+ * A typical dispatch loop looks as follows:
+ * <pre>
+ *  CompiledHandlerChain chain = binding.getCompiledHandlerChain();
+ *  for (int i = 0; i &lt; chain.getLogicalHandlerCount(); i++) {
+ *      if (!chain.getLogicalHandler(i).handleMessage(context)) {
+ *          ...
+ *      }
+ *  }
+ * </pre>
+ *
+ * @see javax.xml.ws.Binding#getCompiledHandlerChain
+ *
+ * @since JAX-WS 2.4
+ */
+public final class CompiledHandlerChain {
+
+    // bits of the interest masks
+    private static final int INBOUND_MESSAGE = 1;
+    private static final int OUTBOUND_MESSAGE = 2;
+    private static final int INBOUND_FAULT = 4;
+    private static final int OUTBOUND_FAULT = 8;
+
+    private static final CompiledHandlerChain EMPTY = new CompiledHandlerChain(
+            new LogicalHandler[0], new SOAPHandler[0], new Handler[0],
+            new byte[0], new byte[0], new byte[0], Collections.<QName>emptySet());
+
+    private final LogicalHandler[] logicalHandlers;
+    private final SOAPHandler[] soapHandlers;
+    private final Handler[] protocolHandlers;
+    private final byte[] logicalInterests;
+    private final byte[] soapInterests;
+    private final byte[] protocolInterests;
+    private final int interests;
+    private final Set<QName> headers;
+
+    private CompiledHandlerChain(LogicalHandler[] logicalHandlers, SOAPHandler[] soapHandlers,
+            Handler[] protocolHandlers, byte[] logicalInterests, byte[] soapInterests,
+            byte[] protocolInterests, Set<QName> headers) {
+        this.logicalHandlers = logicalHandlers;
+        this.soapHandlers = soapHandlers;
+        this.protocolHandlers = protocolHandlers;
+        this.logicalInterests = logicalInterests;
+        this.soapInterests = soapInterests;
+        this.protocolInterests = protocolInterests;
+        this.headers = headers;
+        int all = 0;
+        for (byte mask : logicalInterests) {
+            all |= mask;
+        }
+        for (byte mask : protocolInterests) {
+            all |= mask;
+        }
+        this.interests = all;
+    }
+
+    /**
+     * Compiles the given handler chain.
+     *
+     * @param chain the handler chain, may be {@code null} for an
+     *        empty chain
+     * @return the compiled handler chain
+     * @throws WebServiceException if the chain contains a {@code null}
+     *         element
+     */
+    public static CompiledHandlerChain compile(List<Handler> chain) {
+        if (chain == null || chain.isEmpty()) {
+            return EMPTY;
+        }
+        List<LogicalHandler> logical = new ArrayList<LogicalHandler>(chain.size());
+        List<SOAPHandler> soap = new ArrayList<SOAPHandler>(chain.size());
+        // all the protocol handlers, SOAP handlers included
+        List<Handler> protocol = new ArrayList<Handler>(chain.size());
+        Set<QName> headers = new HashSet<QName>();
+        for (Handler handler : chain) {
+            if (handler == null) {
+                throw new WebServiceException("null handler in the handler chain");
+            }
+            if (handler instanceof LogicalHandler) {
+                logical.add((LogicalHandler) handler);
+            } else if (handler instanceof SOAPHandler) {
+                SOAPHandler<?> soapHandler = (SOAPHandler<?>) handler;
+                soap.add(soapHandler);
+                protocol.add(soapHandler);
+                Set<QName> understood = soapHandler.getHeaders();
+                if (understood != null) {
+                    headers.addAll(understood);
+                }
+            } else {
+                protocol.add(handler);
+            }
+        }
+        return new CompiledHandlerChain(
+                logical.toArray(new LogicalHandler[logical.size()]),
+                soap.toArray(new SOAPHandler[soap.size()]),
+                protocol.toArray(new Handler[protocol.size()]),
+                interests(logical), interests(soap), interests(protocol),
+                Collections.unmodifiableSet(headers));
+    }
+
+    private static byte[] interests(List<? extends Handler> handlers) {
+        byte[] masks = new byte[handlers.size()];
+        for (int i = 0; i < masks.length; i++) {
+            HandlerInterest interest = handlers.get(i).getClass().getAnnotation(HandlerInterest.class);
+            if (interest == null) {
+                masks[i] = INBOUND_MESSAGE | OUTBOUND_MESSAGE | INBOUND_FAULT | OUTBOUND_FAULT;
+                continue;
+            }
+            int mask = 0;
+            if (interest.messages()) {
+                mask |= (interest.inbound() ? INBOUND_MESSAGE : 0) | (interest.outbound() ? OUTBOUND_MESSAGE : 0);
+            }
+            if (interest.faults()) {
+                mask |= (interest.inbound() ? INBOUND_FAULT : 0) | (interest.outbound() ? OUTBOUND_FAULT : 0);
+            }
+            masks[i] = (byte) mask;
+        }
+        return masks;
+    }
+
+    private static int bit(boolean outbound, boolean fault) {
+        return fault
+                ? (outbound ? OUTBOUND_FAULT : INBOUND_FAULT)
+                : (outbound ? OUTBOUND_MESSAGE : INBOUND_MESSAGE);
+    }
+
+    /**
+     * Returns the number of logical handlers in this chain.
+     *
+     * @return the number of logical handlers
+     */
+    public int getLogicalHandlerCount() {
+        return logicalHandlers.length;
+    }
+
+    /**
+     * Returns the logical handler at the given position.
+     *
+     * @param index position of the logical handler, {@code 0} being the
+     *        first logical handler of the chain
+     * @return the logical handler
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public LogicalHandler getLogicalHandler(int index) {
+        return logicalHandlers[index];
+    }
+
+    /**
+     * Returns {@code true} if the logical handler at the given position
+     * needs to be invoked for a message of the given kind.
+     *
+     * @param index position of the logical handler
+     * @param outbound {@code true} for an outbound message
+     * @param fault {@code true} for a fault message, that is for
+     *        {@code handleFault}, {@code false} for {@code handleMessage}
+     * @return {@code false} if the handler declared no interest in such
+     *         messages and its invocation may be skipped
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @see HandlerInterest
+     */
+    public boolean isLogicalHandlerInterested(int index, boolean outbound, boolean fault) {
+        return (logicalInterests[index] & bit(outbound, fault)) != 0;
+    }
+
+    /**
+     * Returns the number of SOAP handlers in this chain. They are also
+     * counted by {@link #getProtocolHandlerCount}.
+     *
+     * @return the number of SOAP handlers
+     */
+    public int getSOAPHandlerCount() {
+        return soapHandlers.length;
+    }
+
+    /**
+     * Returns the SOAP handler at the given position.
+     *
+     * @param index position of the SOAP handler, {@code 0} being the
+     *        first SOAP handler of the chain
+     * @return the SOAP handler
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public SOAPHandler getSOAPHandler(int index) {
+        return soapHandlers[index];
+    }
+
+    /**
+     * Returns {@code true} if the SOAP handler at the given position
+     * needs to be invoked for a message of the given kind.
+     *
+     * @param index position of the SOAP handler
+     * @param outbound {@code true} for an outbound message
+     * @param fault {@code true} for a fault message, that is for
+     *        {@code handleFault}, {@code false} for {@code handleMessage}
+     * @return {@code false} if the handler declared no interest in such
+     *         messages and its invocation may be skipped
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @see HandlerInterest
+     */
+    public boolean isSOAPHandlerInterested(int index, boolean outbound, boolean fault) {
+        return (soapInterests[index] & bit(outbound, fault)) != 0;
+    }
+
+    /**
+     * Returns the number of protocol handlers in this chain, SOAP
+     * handlers included.
+     *
+     * @return the number of protocol handlers
+     */
+    public int getProtocolHandlerCount() {
+        return protocolHandlers.length;
+    }
+
+    /**
+     * Returns the protocol handler at the given position. Protocol
+     * handlers, whether SOAP handlers or not, are in the order of the
+     * original chain.
+     *
+     * @param index position of the protocol handler, {@code 0} being the
+     *        first protocol handler of the chain
+     * @return the protocol handler
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Handler getProtocolHandler(int index) {
+        return protocolHandlers[index];
+    }
+
+    /**
+     * Returns {@code true} if the protocol handler at the given position
+     * needs to be invoked for a message of the given kind.
+     *
+     * @param index position of the protocol handler
+     * @param outbound {@code true} for an outbound message
+     * @param fault {@code true} for a fault message, that is for
+     *        {@code handleFault}, {@code false} for {@code handleMessage}
+     * @return {@code false} if the handler declared no interest in such
+     *         messages and its invocation may be skipped
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @see HandlerInterest
+     */
+    public boolean isProtocolHandlerInterested(int index, boolean outbound, boolean fault) {
+        return (protocolInterests[index] & bit(outbound, fault)) != 0;
+    }
+
+    /**
+     * Returns {@code true} if any handler of this chain needs to be
+     * invoked for a message of the given kind. If not, the whole chain may
+     * be skipped for such a message, except for the invocation of
+     * {@code close}.
+     *
+     * @param outbound {@code true} for an outbound message
+     * @param fault {@code true} for a fault message
+     * @return {@code true} if at least one handler is interested
+     */
+    public boolean isInterested(boolean outbound, boolean fault) {
+        return (interests & bit(outbound, fault)) != 0;
+    }
+
+    /**
+     * Returns the total number of handlers in this chain.
+     *
+     * @return the number of handlers
+     */
+    public int size() {
+        return logicalHandlers.length + protocolHandlers.length;
+    }
+
+    /**
+     * Returns {@code true} if this chain contains no handlers.
+     *
+     * @return {@code true} if the chain is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the header blocks that can be processed by the SOAP handlers
+     * of this chain.
+     *
+     * @return an unmodifiable union of the {@code SOAPHandler.getHeaders()}
+     *         sets of all the SOAP handlers
+     */
+    public Set<QName> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the handlers of this chain as a list, logical handlers
+     * first, followed by the protocol handlers, each group in the order
+     * of the original chain.
+     *
+     * @return a new {@code java.util.List<Handler>} with all the handlers
+     */
+    public List<Handler> getHandlerChain() {
+        List<Handler> chain = new ArrayList<Handler>(size());
+        Collections.addAll(chain, logicalHandlers);
+        Collections.addAll(chain, protocolHandlers);
+        return chain;
+    }
+}
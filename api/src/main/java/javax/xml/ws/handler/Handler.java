@@ -45,6 +45,12 @@ import javax.xml.ws.ProtocolException;
 /** The {@code Handler} interface
  *  is the base interface for JAX-WS handlers.
  *
+ *  <p>Unless a handler class is annotated with {@link ThreadSafe},
+ *  applications MUST NOT set the same {@code Handler} instance on more
+ *  than one binding. Instances of a {@code ThreadSafe} handler may be
+ *  shared by any number of bindings and invoked concurrently, see
+ *  {@link javax.xml.ws.Binding#setHandlerChain}.
+ *
  * @param <C> message context
  *  @since 1.6, JAX-WS 2.0
 **/
@@ -99,4 +105,19 @@ public interface Handler<C extends MessageContext> {
    * @param context the message context
   **/
   public void close(MessageContext context);
+
+  /**
+   * Determines whether the given handler instance may be shared across
+   * bindings and threads, that is whether its class is annotated
+   * with {@link ThreadSafe}.
+   *
+   * @param handler the handler instance
+   * @return {@code true} if the handler is declared thread safe
+   * @throws NullPointerException if {@code handler} is {@code null}
+   *
+   * @since JAX-WS 2.4
+   */
+  public static boolean isThreadSafe(Handler<?> handler) {
+    return handler.getClass().isAnnotationPresent(ThreadSafe.class);
+  }
 }
@@ -0,0 +1,115 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.handler;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which messages a {@link Handler} implementation needs to see.
+ * <p>
+ * By default a handler is invoked for normal and fault messages in both
+ * directions. A handler which only does work in one direction, or only
+ * for normal or only for fault messages, may declare so using this
+ * annotation, for example:
+ * <pre>
+ *  {@literal @}HandlerInterest(inbound=false, faults=false)
+ *  public class SigningHandler implements SOAPHandler&lt;SOAPMessageContext&gt; {
+ *      ...
+ *  }
+ * </pre>
+ * <p>
+ * A JAX-WS runtime MAY then skip calling {@code handleMessage} for normal
+ * messages, and {@code handleFault} for fault messages, the handler is not
+ * interested in. A skipped call is treated as if it returned {@code true}.
+ * Skipping a call has no effect on the invocation of {@code close}.
+ * <p>
+ * Since a runtime is not required to skip any call, a handler MUST still
+ * behave correctly when it is invoked for a message it declared no
+ * interest in.
+ * <p>
+ * This annotation is not inherited: each concrete handler class declares
+ * its own interest, and a subclass without this annotation is invoked for
+ * all messages, as it may do work its superclass does not.
+ *
+ * @see CompiledHandlerChain#isLogicalHandlerInterested
+ * @see CompiledHandlerChain#isSOAPHandlerInterested
+ *
+ * @since JAX-WS 2.4
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HandlerInterest {
+
+    /**
+     * Specifies if the handler processes inbound messages.
+     *
+     * @return {@code true} if the handler is invoked for inbound messages
+     */
+    boolean inbound() default true;
+
+    /**
+     * Specifies if the handler processes outbound messages.
+     *
+     * @return {@code true} if the handler is invoked for outbound messages
+     */
+    boolean outbound() default true;
+
+    /**
+     * Specifies if the handler processes normal messages, that is if
+     * {@code handleMessage} is to be called.
+     *
+     * @return {@code true} if the handler is invoked for normal messages
+     */
+    boolean messages() default true;
+
+    /**
+     * Specifies if the handler processes fault messages, that is if
+     * {@code handleFault} is to be called.
+     *
+     * @return {@code true} if the handler is invoked for fault messages
+     */
+    boolean faults() default true;
+}
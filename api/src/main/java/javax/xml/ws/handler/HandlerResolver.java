@@ -53,6 +53,7 @@ package javax.xml.ws.handler;
  *  about the port that the proxy/dispatch object will be accessing.
  *
  *  @see javax.xml.ws.Service#setHandlerResolver
+ *  @see CachingHandlerResolver
  *
  *  @since 1.6, JAX-WS 2.0
 **/
@@ -39,7 +39,10 @@
  */
 
 package javax.xml.ws.handler;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import javax.xml.namespace.QName;
 
 /**
  * The interface {@code MessageContext} abstracts the message
@@ -51,6 +54,12 @@ import java.util.Map;
  * enable handlers in a handler chain to share processing related
  * state.
  *
+ * <p>Properties may also be accessed using typed {@link Key}s with the
+ * {@link #getProperty(Key)} and {@link #setProperty(Key, Object)} methods.
+ * Each standard property has a {@code Key} with a fixed slot index, so
+ * an implementation may keep the standard properties in an array rather
+ * than hashing their names on every access.
+ *
  * @since 1.6, JAX-WS 2.0
  */
 public interface MessageContext extends Map<String, Object> {
@@ -123,6 +132,9 @@ public interface MessageContext extends Map<String, Object> {
 
     /**
      * Standard property: HTTP request headers.
+     * The value is read-only and may be a lazily populated view, such as
+     * {@link javax.xml.ws.spi.http.HttpRequestHeaders}, so that the headers
+     * are only materialized when they are accessed.
      * <p>Type: {@code java.util.Map<java.lang.String, java.util.List<java.lang.String>>}
      */
     public static final String HTTP_REQUEST_HEADERS =
@@ -227,4 +239,286 @@ public interface MessageContext extends Map<String, Object> {
      *             property name is specified
      */
     public Scope getScope(String  name);
+
+    /**
+     * Gets the value of a property using its typed key. This is equivalent
+     * to {@code get(key.getName())} with the result cast to the type of
+     * the key.
+     *
+     * <p>Implementations keeping standard properties in slots SHOULD
+     * override this method to read the slot given by {@link Key#getSlot}.
+     *
+     * @param <T> type of the property value
+     * @param key key of the property
+     * @return value of the property, or {@code null} if the property
+     *         is not set
+     * @throws ClassCastException if the property value is not of
+     *         the type of the key
+     *
+     * @since JAX-WS 2.4
+     */
+    public default <T> T getProperty(Key<T> key) {
+        return key.cast(get(key.getName()));
+    }
+
+    /**
+     * Sets the value of a property using its typed key. This is equivalent
+     * to {@code put(key.getName(), value)}.
+     *
+     * <p>Implementations keeping standard properties in slots SHOULD
+     * override this method to write the slot given by {@link Key#getSlot}.
+     *
+     * @param <T> type of the property value
+     * @param key key of the property
+     * @param value value of the property
+     *
+     * @since JAX-WS 2.4
+     */
+    public default <T> void setProperty(Key<T> key, T value) {
+        put(key.getName(), value);
+    }
+
+    /**
+     * A typed key of a {@code MessageContext} property.
+     *
+     * <p>A key associates a property name with the type of its values.
+     * Each standard property of {@code MessageContext} has a predefined
+     * key with a slot index in the range
+     * {@code [0, Key.getStandardKeyCount())}; keys created using
+     * {@link #create} have no slot. Keys are equal if their property
+     * names are equal.
+     *
+     * @param <T> type of the property value
+     *
+     * @since JAX-WS 2.4
+     */
+    public static final class Key<T> {
+
+        // must be initialized before the standard keys below
+        private static final Map<String, Key<?>> STANDARD = new HashMap<String, Key<?>>();
+
+        /**
+         * Key of {@link MessageContext#MESSAGE_OUTBOUND_PROPERTY}.
+         */
+        public static final Key<Boolean> MESSAGE_OUTBOUND_PROPERTY =
+                standard(MessageContext.MESSAGE_OUTBOUND_PROPERTY, Boolean.class);
+
+        /**
+         * Key of {@link MessageContext#INBOUND_MESSAGE_ATTACHMENTS}.
+         */
+        public static final Key<Map> INBOUND_MESSAGE_ATTACHMENTS =
+                standard(MessageContext.INBOUND_MESSAGE_ATTACHMENTS, Map.class);
+
+        /**
+         * Key of {@link MessageContext#OUTBOUND_MESSAGE_ATTACHMENTS}.
+         */
+        public static final Key<Map> OUTBOUND_MESSAGE_ATTACHMENTS =
+                standard(MessageContext.OUTBOUND_MESSAGE_ATTACHMENTS, Map.class);
+
+        /**
+         * Key of {@link MessageContext#WSDL_DESCRIPTION}.
+         */
+        public static final Key<org.xml.sax.InputSource> WSDL_DESCRIPTION =
+                standard(MessageContext.WSDL_DESCRIPTION, org.xml.sax.InputSource.class);
+
+        /**
+         * Key of {@link MessageContext#WSDL_SERVICE}.
+         */
+        public static final Key<QName> WSDL_SERVICE =
+                standard(MessageContext.WSDL_SERVICE, QName.class);
+
+        /**
+         * Key of {@link MessageContext#WSDL_PORT}.
+         */
+        public static final Key<QName> WSDL_PORT =
+                standard(MessageContext.WSDL_PORT, QName.class);
+
+        /**
+         * Key of {@link MessageContext#WSDL_INTERFACE}.
+         */
+        public static final Key<QName> WSDL_INTERFACE =
+                standard(MessageContext.WSDL_INTERFACE, QName.class);
+
+        /**
+         * Key of {@link MessageContext#WSDL_OPERATION}.
+         */
+        public static final Key<QName> WSDL_OPERATION =
+                standard(MessageContext.WSDL_OPERATION, QName.class);
+
+        /**
+         * Key of {@link MessageContext#HTTP_RESPONSE_CODE}.
+         */
+        public static final Key<Integer> HTTP_RESPONSE_CODE =
+                standard(MessageContext.HTTP_RESPONSE_CODE, Integer.class);
+
+        /**
+         * Key of {@link MessageContext#HTTP_REQUEST_HEADERS}.
+         */
+        public static final Key<Map<String, List<String>>> HTTP_REQUEST_HEADERS =
+                standard(MessageContext.HTTP_REQUEST_HEADERS, Map.class);
+
+        /**
+         * Key of {@link MessageContext#HTTP_RESPONSE_HEADERS}.
+         */
+        public static final Key<Map<String, List<String>>> HTTP_RESPONSE_HEADERS =
+                standard(MessageContext.HTTP_RESPONSE_HEADERS, Map.class);
+
+        /**
+         * Key of {@link MessageContext#HTTP_REQUEST_METHOD}.
+         */
+        public static final Key<String> HTTP_REQUEST_METHOD =
+                standard(MessageContext.HTTP_REQUEST_METHOD, String.class);
+
+        /**
+         * Key of {@link MessageContext#SERVLET_REQUEST}.
+         */
+        public static final Key<Object> SERVLET_REQUEST =
+                standard(MessageContext.SERVLET_REQUEST, Object.class);
+
+        /**
+         * Key of {@link MessageContext#SERVLET_RESPONSE}.
+         */
+        public static final Key<Object> SERVLET_RESPONSE =
+                standard(MessageContext.SERVLET_RESPONSE, Object.class);
+
+        /**
+         * Key of {@link MessageContext#SERVLET_CONTEXT}.
+         */
+        public static final Key<Object> SERVLET_CONTEXT =
+                standard(MessageContext.SERVLET_CONTEXT, Object.class);
+
+        /**
+         * Key of {@link MessageContext#QUERY_STRING}.
+         */
+        public static final Key<String> QUERY_STRING =
+                standard(MessageContext.QUERY_STRING, String.class);
+
+        /**
+         * Key of {@link MessageContext#PATH_INFO}.
+         */
+        public static final Key<String> PATH_INFO =
+                standard(MessageContext.PATH_INFO, String.class);
+
+        /**
+         * Key of {@link MessageContext#REFERENCE_PARAMETERS}.
+         */
+        public static final Key<List<org.w3c.dom.Element>> REFERENCE_PARAMETERS =
+                standard(MessageContext.REFERENCE_PARAMETERS, List.class);
+
+        private final String name;
+        private final Class<?> type;
+        private final int slot;
+
+        private Key(String name, Class<?> type, int slot) {
+            this.name = name;
+            this.type = type;
+            this.slot = slot;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Key<T> standard(String name, Class<?> type) {
+            Key<T> key = new Key<T>(name, type, STANDARD.size());
+            STANDARD.put(name, key);
+            return key;
+        }
+
+        /**
+         * Creates a key for a property which is not a standard property.
+         *
+         * @param <T> type of the property value
+         * @param name name of the property
+         * @param type type of the property value
+         * @return a key without a slot
+         * @throws IllegalArgumentException if {@code name} is the name
+         *         of a standard property
+         * @throws NullPointerException if {@code name} or {@code type}
+         *         is {@code null}
+         */
+        public static <T> Key<T> create(String name, Class<T> type) {
+            if (name == null || type == null) {
+                throw new NullPointerException();
+            }
+            if (STANDARD.containsKey(name)) {
+                throw new IllegalArgumentException("Standard property: " + name);
+            }
+            return new Key<T>(name, type, -1);
+        }
+
+        /**
+         * Gets the key of the standard property with the given name.
+         *
+         * @param name name of the property
+         * @return the key, or {@code null} if {@code name} is not the name
+         *         of a standard property
+         */
+        public static Key<?> getStandardKey(String name) {
+            return STANDARD.get(name);
+        }
+
+        /**
+         * Gets the number of standard property keys, that is the number of
+         * slots needed to keep all the standard properties.
+         *
+         * @return the number of standard keys
+         */
+        public static int getStandardKeyCount() {
+            return STANDARD.size();
+        }
+
+        /**
+         * Gets the name of the property.
+         *
+         * @return the property name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the type of the property value.
+         *
+         * @return the property type
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Gets the slot index of a standard property.
+         *
+         * @return the slot index, or {@code -1} if this is not the key of
+         *         a standard property
+         */
+        public int getSlot() {
+            return slot;
+        }
+
+        /**
+         * Casts a property value to the type of this key.
+         *
+         * @param value the property value
+         * @return the value
+         * @throws ClassCastException if the value is not {@code null}
+         *         and not of the type of this key
+         */
+        @SuppressWarnings("unchecked")
+        public T cast(Object value) {
+            return (T) type.cast(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key && name.equals(((Key<?>) obj).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
 }
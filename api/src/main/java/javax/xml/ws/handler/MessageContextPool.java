@@ -0,0 +1,130 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.handler;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of {@link PooledMessageContext} instances.
+ * <p>
+ * A JAX-WS runtime acquires a context from the pool for every message and
+ * releases it when the processing of the message is done, including the
+ * invocation of {@code Handler.close}:
+ * <pre>
+ *  SOAPMessageContextImpl context = pool.acquire();
+ *  try {
+ *      ...
+ *  } finally {
+ *      pool.release(context);
+ *  }
+ * </pre>
+ * <p>
+ * New contexts are created using the supplied factory whenever the pool is
+ * empty. Released contexts beyond the capacity of the pool are discarded.
+ * This class is thread safe.
+ *
+ * @param <C> type of the pooled contexts
+ *
+ * @since JAX-WS 2.4
+ */
+public class MessageContextPool<C extends PooledMessageContext> {
+
+    private final Supplier<? extends C> factory;
+    private final BlockingQueue<C> pool;
+
+    /**
+     * Creates a pool.
+     *
+     * @param factory creates the contexts of the pool
+     * @param capacity maximum number of released contexts kept in the pool
+     * @throws IllegalArgumentException if {@code capacity} is {@literal <} 1
+     * @throws NullPointerException if {@code factory} is {@code null}
+     */
+    public MessageContextPool(Supplier<? extends C> factory, int capacity) {
+        if (factory == null) {
+            throw new NullPointerException("factory");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("MessageContextPool.capacity must be >= 1, actual value: " + capacity);
+        }
+        this.factory = factory;
+        this.pool = new ArrayBlockingQueue<C>(capacity);
+    }
+
+    /**
+     * Obtains a context from this pool, resetting a released context or
+     * creating a new one.
+     *
+     * @return a context ready for the processing of a new message
+     */
+    public C acquire() {
+        C context = pool.poll();
+        if (context == null) {
+            return factory.get();
+        }
+        context.reset();
+        return context;
+    }
+
+    /**
+     * Releases a context acquired from this pool. The context must not be
+     * used by the caller anymore. Releasing a context twice is detected by
+     * the context itself, see {@link PooledMessageContext#release}.
+     *
+     * @param context the context
+     * @throws NullPointerException if {@code context} is {@code null}
+     */
+    public void release(C context) {
+        context.release();
+        pool.offer(context);
+    }
+
+    /**
+     * Returns the number of released contexts currently kept in this pool.
+     *
+     * @return the number of idle contexts
+     */
+    public int getIdleCount() {
+        return pool.size();
+    }
+}
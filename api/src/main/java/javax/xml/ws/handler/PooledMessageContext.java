@@ -0,0 +1,97 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.handler;
+
+/**
+ * A {@link MessageContext} which can be reused for several messages, one
+ * after another, so that a JAX-WS runtime may keep its message contexts
+ * in a {@link MessageContextPool} rather than creating new ones for every
+ * message.
+ * <p>
+ * The life cycle of a pooled context is as follows:
+ * <ol>
+ *  <li>The context is obtained from {@link MessageContextPool#acquire},
+ *  which either creates a new context or calls {@link #reset} on a
+ *  released one.</li>
+ *  <li>The context is used for the processing of a single message.</li>
+ *  <li>The context is handed back using {@link MessageContextPool#release},
+ *  which calls {@link #release}.</li>
+ * </ol>
+ * <p>
+ * A released context MUST NOT be used until it is reset, and views or
+ * other objects obtained from it MUST NOT be used at all once it has been
+ * released, even after it is reset. Implementations SHOULD detect such use when
+ * Java assertions are enabled, typically with {@code assert} statements,
+ * and report it by throwing an {@code AssertionError} or an
+ * {@code IllegalStateException}. Note that when the API is on the boot or
+ * endorsed class path, its assertions are enabled by {@code -esa} rather
+ * than {@code -ea}.
+ * <p>
+ * Implementations which also implement {@code LogicalMessageContext} or
+ * {@code SOAPMessageContext} MUST drop the contained message on release.
+ *
+ * @see MessageContextPool
+ * @see ScopedMessageContext
+ *
+ * @since JAX-WS 2.4
+ */
+public interface PooledMessageContext extends MessageContext {
+
+    /**
+     * Discards all the per-message state of this context, so that it can be
+     * used for a new message.
+     *
+     * @throws UnsupportedOperationException if this context can not be reset
+     */
+    public void reset();
+
+    /**
+     * Discards all the per-message state of this context and marks it as
+     * released. The context must not be used until it is reset.
+     * Implementations SHOULD detect a second release of the same context
+     * when Java assertions are enabled, whether or not the context was
+     * kept by the pool.
+     *
+     * @throws UnsupportedOperationException if this context can not be
+     *         released
+     */
+    public void release();
+}
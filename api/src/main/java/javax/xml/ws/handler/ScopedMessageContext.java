@@ -0,0 +1,711 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.handler;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A layered {@link MessageContext} implementation for use by JAX-WS
+ * runtimes.
+ * <p>
+ * A {@code ScopedMessageContext} holds only the properties set on it and
+ * delegates the lookup of all other properties to a base context, which
+ * is shared rather than copied. A typical runtime builds one base context
+ * per endpoint or port, holding properties such as
+ * {@link MessageContext#WSDL_SERVICE} or {@link MessageContext#WSDL_PORT},
+ * {@linkplain #freeze() freezes} it, and creates a new context over it for
+ * each message, so that creating the context of a message does not
+ * depend on the number of properties of the base.
+ * <p>
+ * Properties set or removed on a context never affect its base. A
+ * property of the base which is set again keeps its scope.
+ * <p>
+ * Standard properties are kept in an array indexed by
+ * {@link MessageContext.Key#getSlot}, so that
+ * {@link #getProperty(MessageContext.Key)} and
+ * {@link #setProperty(MessageContext.Key, Object)} access them without
+ * hashing their names.
+ * <p>
+ * The {@link #getScopedView} method returns a live view of the properties
+ * of one scope, for example of the {@code APPLICATION} scoped properties
+ * to hand over to an endpoint while it processes the message. Creating
+ * such a view is a constant time operation. Views, like the context
+ * itself, iterate over the properties of the context and of its bases
+ * without copying them. A view is only valid until
+ * the context is released; properties which outlive the processing of
+ * the message, such as those returned from
+ * {@link javax.xml.ws.Response#getContext()}, MUST be copied using
+ * {@link #getScopedSnapshot} instead.
+ * <p>
+ * A context which is not frozen can be pooled: {@link #reset} and
+ * {@link #release} discard all the properties set on it, leaving the
+ * properties of the base. Use of a released context, and use of a view,
+ * entry set or iterator obtained before the context was released or reset,
+ * is detected when Java assertions are enabled.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @since JAX-WS 2.4
+ */
+public class ScopedMessageContext extends AbstractMap<String, Object> implements PooledMessageContext {
+
+    private final ScopedMessageContext base;
+    // standard properties by slot, other properties by name
+    private final Property[] slots = new Property[Key.getStandardKeyCount()];
+    private final Map<String, Property> properties = new HashMap<String, Property>();
+    private boolean frozen;
+    private boolean released;
+    // incremented by reset and release, invalidates the existing views
+    private int generation;
+
+    /**
+     * Creates an empty context.
+     */
+    public ScopedMessageContext() {
+        this.base = null;
+    }
+
+    /**
+     * Creates a context over the given base context. The base is frozen
+     * if it is not frozen already.
+     *
+     * @param base the base context
+     * @throws NullPointerException if {@code base} is {@code null}
+     */
+    public ScopedMessageContext(ScopedMessageContext base) {
+        base.freeze();
+        this.base = base;
+    }
+
+    /**
+     * Makes this context unmodifiable, so that it can be shared as the base
+     * of other contexts. All later modifications of this context, or of
+     * its views, throw {@code UnsupportedOperationException}.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Returns {@code true} if this context has been frozen.
+     *
+     * @return {@code true} if this context is unmodifiable
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Returns the base context of this context.
+     *
+     * @return the base context, or {@code null} if this context has none
+     */
+    public ScopedMessageContext getBase() {
+        return base;
+    }
+
+    /**
+     * Discards all the properties set on this context, so that it again
+     * exposes exactly the properties of its base.
+     *
+     * @throws UnsupportedOperationException if this context is frozen
+     */
+    @Override
+    public void reset() {
+        if (frozen) {
+            throw new UnsupportedOperationException("MessageContext is frozen");
+        }
+        clearLocal();
+        released = false;
+        generation++;
+    }
+
+    /**
+     * Discards all the properties set on this context and marks it as
+     * released.
+     *
+     * @throws UnsupportedOperationException if this context is frozen
+     */
+    @Override
+    public void release() {
+        assert !released : "MessageContext released twice";
+        checkModifiable();
+        clearLocal();
+        released = true;
+        generation++;
+    }
+
+    /**
+     * Gets the value of a property using its typed key. The value of a
+     * standard property is read from its slot.
+     *
+     * @param <T> type of the property value
+     * @param key key of the property
+     * @return value of the property, or {@code null} if the property
+     *         is not set
+     * @throws ClassCastException if the property value is not of
+     *         the type of the key
+     */
+    @Override
+    public <T> T getProperty(Key<T> key) {
+        int slot = key.getSlot();
+        if (slot < 0) {
+            return key.cast(get(key.getName()));
+        }
+        Property property = find(slot);
+        return property == null ? null : key.cast(property.value);
+    }
+
+    /**
+     * Sets the value of a property using its typed key. The value of a
+     * standard property is written to its slot. A new property is
+     * {@code HANDLER} scoped, an existing property keeps its scope.
+     *
+     * @param <T> type of the property value
+     * @param key key of the property
+     * @param value value of the property
+     * @throws UnsupportedOperationException if this context is frozen
+     */
+    @Override
+    public <T> void setProperty(Key<T> key, T value) {
+        int slot = key.getSlot();
+        if (slot < 0) {
+            put(key.getName(), value);
+            return;
+        }
+        checkModifiable();
+        Property property = find(slot);
+        slots[slot] = new Property(key.getName(), value, property == null ? Scope.HANDLER : property.scope);
+    }
+
+    @Override
+    public Object get(Object name) {
+        Property property = find(name);
+        return property == null ? null : property.value;
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return find(name) != null;
+    }
+
+    /**
+     * Sets a property. A new property is {@code HANDLER} scoped, an
+     * existing property keeps its scope.
+     *
+     * @param name name of the property
+     * @param value value of the property
+     * @return the previous value of the property, or {@code null}
+     */
+    @Override
+    public Object put(String name, Object value) {
+        Property property = find(name);
+        return put(name, value, property == null ? Scope.HANDLER : property.scope);
+    }
+
+    /**
+     * Sets a property with the given scope.
+     *
+     * @param name name of the property
+     * @param value value of the property
+     * @param scope scope of the property
+     * @return the previous value of the property, or {@code null}
+     * @throws UnsupportedOperationException if this context is frozen
+     */
+    public Object put(String name, Object value, Scope scope) {
+        checkModifiable();
+        if (name == null || scope == null) {
+            throw new NullPointerException();
+        }
+        Property previous = find(name);
+        setLocal(new Property(name, value, scope));
+        return previous == null ? null : previous.value;
+    }
+
+    @Override
+    public Object remove(Object name) {
+        checkModifiable();
+        Property previous = find(name);
+        if (previous == null) {
+            return null;
+        }
+        if (base != null && base.find(name) != null) {
+            setLocal(new Property(previous.name, null, null));
+        } else {
+            removeLocal(previous.name);
+        }
+        return previous.value;
+    }
+
+    @Override
+    public void clear() {
+        checkModifiable();
+        clearLocal();
+        if (base != null) {
+            for (Iterator<Property> it = base.new PropertyIterator(null); it.hasNext(); ) {
+                setLocal(new Property(it.next().name, null, null));
+            }
+        }
+    }
+
+    @Override
+    public void setScope(String name, Scope scope) {
+        checkModifiable();
+        Property property = find(name);
+        if (property == null) {
+            throw new IllegalArgumentException("No such property: " + name);
+        }
+        if (scope == null) {
+            throw new NullPointerException();
+        }
+        setLocal(new Property(property.name, property.value, scope));
+    }
+
+    @Override
+    public Scope getScope(String name) {
+        Property property = find(name);
+        if (property == null) {
+            throw new IllegalArgumentException("No such property: " + name);
+        }
+        return property.scope;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new EntrySet(null);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entrySet().isEmpty();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new KeySet(entrySet());
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new Values(entrySet());
+    }
+
+    /**
+     * Returns a live view of the properties of this context with the given
+     * scope. Properties put into the view are given that scope; properties
+     * of other scopes can not be read or removed using the view. The view
+     * MUST NOT be used once this context has been released.
+     *
+     * @param scope the scope
+     * @return a view of the properties with the given scope
+     */
+    public Map<String, Object> getScopedView(Scope scope) {
+        if (scope == null) {
+            throw new NullPointerException();
+        }
+        return new ScopedView(scope);
+    }
+
+    /**
+     * Returns a copy of the properties of this context with the given
+     * scope. Unlike a view, the copy remains valid after this context is
+     * released or reused, and can be handed over to the application, for
+     * example as the result of {@link javax.xml.ws.Response#getContext()}.
+     *
+     * @param scope the scope
+     * @return a new map with the properties of the given scope
+     */
+    public Map<String, Object> getScopedSnapshot(Scope scope) {
+        if (scope == null) {
+            throw new NullPointerException();
+        }
+        Map<String, Object> snapshot = new HashMap<String, Object>();
+        for (Iterator<Property> it = new PropertyIterator(scope); it.hasNext(); ) {
+            Property property = it.next();
+            snapshot.put(property.name, property.value);
+        }
+        return snapshot;
+    }
+
+    private void checkGeneration(int generation) {
+        assert !released && generation == this.generation : "MessageContext view used after release";
+    }
+
+    private void checkModifiable() {
+        assert !released : "MessageContext used after release";
+        if (frozen) {
+            throw new UnsupportedOperationException("MessageContext is frozen");
+        }
+    }
+
+    private Property find(Object name) {
+        int slot = slot(name);
+        if (slot >= 0) {
+            return find(slot);
+        }
+        assert !released : "MessageContext used after release";
+        for (ScopedMessageContext context = this; context != null; context = context.base) {
+            Property property = context.properties.get(name);
+            if (property != null) {
+                return property.isRemoved() ? null : property;
+            }
+        }
+        return null;
+    }
+
+    private Property find(int slot) {
+        assert !released : "MessageContext used after release";
+        for (ScopedMessageContext context = this; context != null; context = context.base) {
+            Property property = context.slots[slot];
+            if (property != null) {
+                return property.isRemoved() ? null : property;
+            }
+        }
+        return null;
+    }
+
+    private static int slot(Object name) {
+        Key<?> key = name instanceof String ? Key.getStandardKey((String) name) : null;
+        return key == null ? -1 : key.getSlot();
+    }
+
+    private void setLocal(Property property) {
+        int slot = slot(property.name);
+        if (slot >= 0) {
+            slots[slot] = property;
+        } else {
+            properties.put(property.name, property);
+        }
+    }
+
+    private void removeLocal(String name) {
+        int slot = slot(name);
+        if (slot >= 0) {
+            slots[slot] = null;
+        } else {
+            properties.remove(name);
+        }
+    }
+
+    private void clearLocal() {
+        Arrays.fill(slots, null);
+        properties.clear();
+    }
+
+    // whether a property of the given layer is hidden by a property, or
+    // a removal, of the same name in a layer above it
+    private boolean isShadowed(Property property, int slot, ScopedMessageContext layer) {
+        for (ScopedMessageContext context = this; context != layer; context = context.base) {
+            Property local = slot >= 0 ? context.slots[slot] : context.properties.get(property.name);
+            if (local != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Property {
+
+        final String name;
+        final Object value;
+        // null marks a property of the base removed from this context
+        final Scope scope;
+
+        Property(String name, Object value, Scope scope) {
+            this.name = name;
+            this.value = value;
+            this.scope = scope;
+        }
+
+        boolean isRemoved() {
+            return scope == null;
+        }
+    }
+
+    // the visible properties, optionally of one scope only, layer by layer
+    private final class PropertyIterator implements Iterator<Property> {
+
+        private final Scope scope;
+        private ScopedMessageContext layer = ScopedMessageContext.this;
+        private int slot;
+        // properties of the current layer once its slots are done
+        private Iterator<Property> named;
+        private Property next;
+
+        PropertyIterator(Scope scope) {
+            assert !released : "MessageContext used after release";
+            this.scope = scope;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && layer != null) {
+                Property property;
+                int index = -1;
+                if (named == null) {
+                    if (slot == layer.slots.length) {
+                        named = layer.properties.values().iterator();
+                        continue;
+                    }
+                    index = slot++;
+                    property = layer.slots[index];
+                } else if (named.hasNext()) {
+                    property = named.next();
+                } else {
+                    layer = layer.base;
+                    slot = 0;
+                    named = null;
+                    continue;
+                }
+                if (property != null && !property.isRemoved()
+                        && (scope == null || property.scope == scope)
+                        && !isShadowed(property, index, layer)) {
+                    next = property;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Property next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Property property = next;
+            next = null;
+            return property;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        private final Scope scope;
+        private final int generation = ScopedMessageContext.this.generation;
+
+        EntrySet(Scope scope) {
+            this.scope = scope;
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            checkGeneration(generation);
+            final Iterator<Property> it = new PropertyIterator(scope);
+            return new Iterator<Entry<String, Object>>() {
+
+                private String last;
+
+                @Override
+                public boolean hasNext() {
+                    checkGeneration(generation);
+                    return it.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    checkGeneration(generation);
+                    Property property = it.next();
+                    last = property.name;
+                    return new SimpleImmutableEntry<String, Object>(last, property.value);
+                }
+
+                @Override
+                public void remove() {
+                    checkGeneration(generation);
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    checkModifiable();
+                    // a removal mark rather than a removal, so that the
+                    // maps being iterated are not structurally modified
+                    setLocal(new Property(last, null, null));
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            checkGeneration(generation);
+            int size = 0;
+            for (Iterator<Property> it = new PropertyIterator(scope); it.hasNext(); it.next()) {
+                size++;
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            checkGeneration(generation);
+            return !new PropertyIterator(scope).hasNext();
+        }
+    }
+
+    private static final class KeySet extends AbstractSet<String> {
+
+        private final Set<Entry<String, Object>> entries;
+
+        KeySet(Set<Entry<String, Object>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            final Iterator<Entry<String, Object>> it = entries.iterator();
+            return new Iterator<String>() {
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return it.next().getKey();
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+    }
+
+    private static final class Values extends AbstractCollection<Object> {
+
+        private final Set<Entry<String, Object>> entries;
+
+        Values(Set<Entry<String, Object>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            final Iterator<Entry<String, Object>> it = entries.iterator();
+            return new Iterator<Object>() {
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    return it.next().getValue();
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+    }
+
+    private final class ScopedView extends AbstractMap<String, Object> {
+
+        private final Scope scope;
+        private final int generation = ScopedMessageContext.this.generation;
+
+        ScopedView(Scope scope) {
+            this.scope = scope;
+        }
+
+        @Override
+        public Object get(Object name) {
+            checkGeneration(generation);
+            Property property = find(name);
+            return property == null || property.scope != scope ? null : property.value;
+        }
+
+        @Override
+        public boolean containsKey(Object name) {
+            checkGeneration(generation);
+            Property property = find(name);
+            return property != null && property.scope == scope;
+        }
+
+        @Override
+        public Object put(String name, Object value) {
+            checkGeneration(generation);
+            Property property = find(name);
+            if (property != null && property.scope != scope) {
+                throw new IllegalArgumentException("Property " + name + " is not " + scope + " scoped");
+            }
+            return ScopedMessageContext.this.put(name, value, scope);
+        }
+
+        @Override
+        public Object remove(Object name) {
+            return containsKey(name) ? ScopedMessageContext.this.remove(name) : null;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            checkGeneration(generation);
+            return new EntrySet(scope);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return entrySet().isEmpty();
+        }
+    }
+}
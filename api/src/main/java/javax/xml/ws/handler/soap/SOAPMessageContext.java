@@ -40,10 +40,21 @@
 
 package javax.xml.ws.handler.soap;
 
+import javax.xml.soap.SOAPException;
+import javax.xml.soap.SOAPHeader;
+import javax.xml.soap.SOAPHeaderElement;
 import javax.xml.soap.SOAPMessage;
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.namespace.QName;
+import javax.xml.ws.JAXBContextRegistry;
+import javax.xml.ws.WebServiceException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import org.w3c.dom.Element;
 
 /** The interface {@code SOAPMessageContext}
  *  provides access to the SOAP message for either RPC request or 
@@ -51,6 +62,12 @@ import java.util.Set;
  *  the standard Java API for the representation of a SOAP 1.1 message
  *  with attachments.
  *
+ *  <p>Handlers which only need to read a few header blocks SHOULD use
+ *  {@link #getHeaderElements} or one of the {@code getHeaders} methods
+ *  rather than {@link #getMessage()}: implementations may serve these
+ *  methods from a scan of the SOAP header only, without parsing the
+ *  SOAP body or building the SAAJ representation of the message.
+ *
  *  @see javax.xml.soap.SOAPMessage
  * 
  *  @since 1.6, JAX-WS 2.0
@@ -81,6 +98,9 @@ public interface SOAPMessageContext
    *  message context. Note that a SOAP message can contain multiple headers
    *  with the same qualified name.
    *
+   *  <p>Implementations SHOULD NOT parse the SOAP body of the message to
+   *  satisfy this method.
+   *
    *  @param  header The XML qualified name of the SOAP header(s).
    *  @param  context The JAXBContext that should be used to unmarshall the 
    *          header
@@ -91,6 +111,7 @@ public interface SOAPMessageContext
    *  @return An array of unmarshalled headers; returns an empty array if no 
    *          message is present in this message context or no headers match
    *          the supplied qualified name.
+   *
    *  @throws javax.xml.ws.WebServiceException If an error occurs when using the supplied
    *     {@code JAXBContext} to unmarshall. The cause of
    *     the {@code WebServiceException} is the original {@code JAXBException}.
@@ -98,6 +119,103 @@ public interface SOAPMessageContext
   public Object[] getHeaders(QName header, JAXBContext context,
     boolean allRoles);
 
+  /** Gets headers that have a particular qualified name from the message in the
+   *  message context, unmarshalled as objects of the given type using the
+   *  {@code JAXBContext} of the type from
+   *  {@link JAXBContextRegistry}. Headers which unmarshal
+   *  to a {@code JAXBElement} are returned as its value.
+   *
+   *  @param  <T> type of the headers
+   *  @param  header The XML qualified name of the SOAP header(s).
+   *  @param  type The class the headers are bound to
+   *  @param  allRoles If {@code true} then returns headers for all SOAP
+   *          roles, if {@code false} then only returns headers targetted
+   *          at the roles currently being played by this SOAP node, see
+   *          {@code getRoles}.
+   *  @return An array of unmarshalled headers; returns an empty array if no
+   *          message is present in this message context or no headers match
+   *          the supplied qualified name.
+   *  @throws WebServiceException If a header can not be
+   *     unmarshalled to an object of the given type.
+   *
+   *  @since JAX-WS 2.4
+  **/
+  @SuppressWarnings("unchecked")
+  public default <T> T[] getHeadersAs(QName header, Class<T> type,
+    boolean allRoles) {
+    Object[] headers = getHeaders(header, JAXBContextRegistry.getContext(type), allRoles);
+    T[] result = (T[]) Array.newInstance(type, headers.length);
+    for (int i = 0; i < headers.length; i++) {
+      Object value = headers[i];
+      if (value instanceof JAXBElement && !type.isInstance(value)) {
+        value = ((JAXBElement<?>) value).getValue();
+      }
+      if (value != null && !type.isInstance(value)) {
+        throw new WebServiceException("Header " + header + " is not a "
+          + type.getName() + ": " + value.getClass().getName());
+      }
+      result[i] = type.cast(value);
+    }
+    return result;
+  }
+
+  /** Gets the header blocks that have a particular qualified name from the
+   *  message in the message context, as DOM elements. Note that a SOAP
+   *  message can contain multiple headers with the same qualified name.
+   *
+   *  <p>Implementations SHOULD serve this method from a scan of the SOAP
+   *  header only, leaving the SOAP body unparsed, so that reading a
+   *  security token or an addressing header of a large message does not
+   *  require the message to be fully parsed. The returned elements may
+   *  be detached copies of the header blocks; modifications to them
+   *  need not change the message.
+   *
+   *  <p>The default implementation looks the header blocks up in the
+   *  {@code SOAPMessage} returned by {@link #getMessage()}.
+   *
+   *  @param  header The XML qualified name of the SOAP header(s).
+   *  @param  allRoles If {@code true} then returns headers for all SOAP
+   *          roles, if {@code false} then only returns headers targetted
+   *          at the roles currently being played by this SOAP node, see
+   *          {@code getRoles}.
+   *  @return A list of the header blocks in message order; returns an
+   *          empty list if no message is present in this message context
+   *          or no headers match the supplied qualified name.
+   *  @throws WebServiceException If an error occurs when reading the
+   *          SOAP header of the message.
+   *
+   *  @since JAX-WS 2.4
+  **/
+  public default List<Element> getHeaderElements(QName header, boolean allRoles) {
+    List<Element> elements = new ArrayList<Element>();
+    SOAPMessage message = getMessage();
+    if (message == null) {
+      return elements;
+    }
+    SOAPHeader soapHeader;
+    try {
+      soapHeader = message.getSOAPHeader();
+    } catch (SOAPException e) {
+      throw new WebServiceException("Error reading the SOAP header", e);
+    }
+    if (soapHeader == null) {
+      return elements;
+    }
+    Set<String> roles = allRoles ? null : getRoles();
+    Iterator<?> it = soapHeader.examineAllHeaderElements();
+    while (it.hasNext()) {
+      SOAPHeaderElement element = (SOAPHeaderElement) it.next();
+      if (!header.equals(element.getElementQName())) {
+        continue;
+      }
+      String role = element.getActor();
+      if (roles == null || role == null || role.isEmpty() || roles.contains(role)) {
+        elements.add(element);
+      }
+    }
+    return elements;
+  }
+
   /** Gets the SOAP actor roles associated with an execution
    *  of the handler chain.
    *  Note that SOAP actor roles apply to the SOAP node and
@@ -0,0 +1,232 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.http;
+
+import javax.xml.ws.BindingProvider;
+import javax.xml.ws.Service;
+import javax.xml.ws.WebServiceException;
+import javax.xml.ws.WebServiceFeature;
+
+/**
+ * This feature configures the reuse of HTTP connections by the
+ * clients of a web service.
+ *
+ * This feature can be used during the creation of {@link Service}
+ * instances, in which case it applies to all the SEI proxies and
+ * {@link javax.xml.ws.Dispatch} instances created from the service, and
+ * during the creation of SEI proxy and {@code Dispatch} instances. A
+ * feature given when creating a proxy or {@code Dispatch} instance
+ * takes precedence over the feature given when creating the service.
+ * This feature is ignored on the server side.
+ *
+ * <p>
+ * The following describes the affects of this feature with respect
+ * to being enabled or disabled:
+ * <ul>
+ *  <li> ENABLED: In this Mode, requests to the same scheme, host and port
+ * are sent over a pool of persistent connections. At most
+ * {@link #getMaxConnectionsPerHost} connections are open to a host at a
+ * time; further requests wait for a connection to be available. A
+ * connection is closed when it has been idle for
+ * {@link #getIdleTimeout} milliseconds, or once it has been used for
+ * {@link #getMaxRequestsPerConnection} requests. When a proxy or
+ * {@code Dispatch} instance is created, up to
+ * {@link #getPrewarmConnections} connections are opened to its endpoint
+ * address, so that the first requests do not pay for connection set-up.
+ *  <li> DISABLED: In this Mode, connection reuse is implementation-specific.
+ * </ul>
+ * <p>
+ * A JAX-WS runtime supporting this feature MUST make the state of the
+ * pool used for a request available through the
+ * {@link BindingProvider#CONNECTION_POOL_METRICS_PROPERTY} property of
+ * the response context.
+ *
+ * @see ConnectionPoolMetrics
+ *
+ * @since JAX-WS 2.4
+ */
+public final class ConnectionPoolFeature extends WebServiceFeature {
+    /**
+     * Constant value identifying the ConnectionPoolFeature
+     */
+    public static final String ID = "javax.xml.ws.http.ConnectionPoolFeature";
+
+    /**
+     * Default maximum number of connections per host.
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 5;
+
+    /**
+     * Default idle timeout, in milliseconds.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT = 5000;
+
+    private final int maxConnectionsPerHost;
+    private final long idleTimeout;
+    private final int maxRequestsPerConnection;
+    private final int prewarmConnections;
+
+    /**
+     * Creates a {@code ConnectionPoolFeature} using the
+     * {@link #DEFAULT_MAX_CONNECTIONS_PER_HOST} and the
+     * {@link #DEFAULT_IDLE_TIMEOUT}, without limiting the number of
+     * requests per connection and without prewarming connections.
+     * The instance created will be enabled.
+     */
+    public ConnectionPoolFeature() {
+        this(true, DEFAULT_MAX_CONNECTIONS_PER_HOST, DEFAULT_IDLE_TIMEOUT, 0, 0);
+    }
+
+    /**
+     * Creates a {@code ConnectionPoolFeature} using the
+     * {@link #DEFAULT_MAX_CONNECTIONS_PER_HOST} and the
+     * {@link #DEFAULT_IDLE_TIMEOUT}, without limiting the number of
+     * requests per connection and without prewarming connections.
+     *
+     * @param enabled specifies if this feature should be enabled or not
+     */
+    public ConnectionPoolFeature(boolean enabled) {
+        this(enabled, DEFAULT_MAX_CONNECTIONS_PER_HOST, DEFAULT_IDLE_TIMEOUT, 0, 0);
+    }
+
+    /**
+     * Creates a {@code ConnectionPoolFeature}.
+     * The instance created will be enabled.
+     *
+     * @param maxConnectionsPerHost the maximum number of connections open
+     * to a host at a time
+     * @param idleTimeout the time in milliseconds after which an idle
+     * connection is closed, 0 meaning that idle connections are closed
+     * at once
+     * @param maxRequestsPerConnection the number of requests after which
+     * a connection is closed, or 0 for no limit
+     * @param prewarmConnections the number of connections opened when a
+     * proxy or {@code Dispatch} instance is created
+     *
+     * @throws WebServiceException if maxConnectionsPerHost is {@literal <}
+     * 1, any other value is {@literal <} 0, or prewarmConnections is
+     * greater than maxConnectionsPerHost
+     */
+    public ConnectionPoolFeature(int maxConnectionsPerHost, long idleTimeout,
+            int maxRequestsPerConnection, int prewarmConnections) {
+        this(true, maxConnectionsPerHost, idleTimeout, maxRequestsPerConnection, prewarmConnections);
+    }
+
+    /**
+     * Creates a {@code ConnectionPoolFeature}.
+     *
+     * @param enabled specifies if this feature should be enabled or not
+     * @param maxConnectionsPerHost the maximum number of connections open
+     * to a host at a time
+     * @param idleTimeout the time in milliseconds after which an idle
+     * connection is closed, 0 meaning that idle connections are closed
+     * at once
+     * @param maxRequestsPerConnection the number of requests after which
+     * a connection is closed, or 0 for no limit
+     * @param prewarmConnections the number of connections opened when a
+     * proxy or {@code Dispatch} instance is created
+     *
+     * @throws WebServiceException if maxConnectionsPerHost is {@literal <}
+     * 1, any other value is {@literal <} 0, or prewarmConnections is
+     * greater than maxConnectionsPerHost
+     */
+    public ConnectionPoolFeature(boolean enabled, int maxConnectionsPerHost, long idleTimeout,
+            int maxRequestsPerConnection, int prewarmConnections) {
+        if (maxConnectionsPerHost < 1)
+            throw new WebServiceException("ConnectionPoolFeature.maxConnectionsPerHost must be >= 1, actual value: "+maxConnectionsPerHost);
+        if (idleTimeout < 0)
+            throw new WebServiceException("ConnectionPoolFeature.idleTimeout must be >= 0, actual value: "+idleTimeout);
+        if (maxRequestsPerConnection < 0)
+            throw new WebServiceException("ConnectionPoolFeature.maxRequestsPerConnection must be >= 0, actual value: "+maxRequestsPerConnection);
+        if (prewarmConnections < 0 || prewarmConnections > maxConnectionsPerHost)
+            throw new WebServiceException("ConnectionPoolFeature.prewarmConnections must be between 0 and maxConnectionsPerHost, actual value: "+prewarmConnections);
+        this.enabled = enabled;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.idleTimeout = idleTimeout;
+        this.maxRequestsPerConnection = maxRequestsPerConnection;
+        this.prewarmConnections = prewarmConnections;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getID() {
+        return ID;
+    }
+
+    /**
+     * Gets the maximum number of connections open to a host at a time.
+     *
+     * @return the maximum number of connections per host
+     */
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * Gets the time after which an idle connection is closed.
+     *
+     * @return the idle timeout in milliseconds
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Gets the number of requests after which a connection is closed.
+     *
+     * @return the maximum number of requests per connection, or 0 if
+     * there is no limit
+     */
+    public int getMaxRequestsPerConnection() {
+        return maxRequestsPerConnection;
+    }
+
+    /**
+     * Gets the number of connections opened when a proxy or
+     * {@code Dispatch} instance is created.
+     *
+     * @return the number of prewarmed connections
+     */
+    public int getPrewarmConnections() {
+        return prewarmConnections;
+    }
+}
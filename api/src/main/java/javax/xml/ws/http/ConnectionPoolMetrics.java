@@ -0,0 +1,116 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.http;
+
+/**
+ * A live view of the pool of connections to one host, used by clients
+ * configured with the {@link ConnectionPoolFeature}.
+ * <p>
+ * Every method returns the current value. The counters are maintained
+ * without locking, so values read one after another need not be
+ * consistent with each other.
+ *
+ * @see javax.xml.ws.BindingProvider#CONNECTION_POOL_METRICS_PROPERTY
+ * @since JAX-WS 2.4
+ */
+public interface ConnectionPoolMetrics {
+
+    /**
+     * Returns the destination of the connections of this pool.
+     *
+     * @return the scheme, host and port of the pool, for example
+     *         {@code https://example.com:443}
+     */
+    String getAddress();
+
+    /**
+     * Returns the maximum number of connections of this pool.
+     *
+     * @return the maximum number of connections
+     */
+    int getMaxConnections();
+
+    /**
+     * Returns the number of connections currently open, whether idle
+     * or in use.
+     *
+     * @return the number of open connections
+     */
+    int getOpenConnections();
+
+    /**
+     * Returns the number of open connections not currently used by a
+     * request.
+     *
+     * @return the number of idle connections
+     */
+    int getIdleConnections();
+
+    /**
+     * Returns the number of requests currently waiting for a connection.
+     *
+     * @return the number of waiting requests
+     */
+    int getWaitingRequests();
+
+    /**
+     * Returns the number of connections opened since the pool was created.
+     *
+     * @return the number of created connections
+     */
+    long getConnectionsCreated();
+
+    /**
+     * Returns the number of connections closed since the pool was created,
+     * whether because of the idle timeout, the maximum number of requests
+     * per connection, or an error.
+     *
+     * @return the number of closed connections
+     */
+    long getConnectionsClosed();
+
+    /**
+     * Returns the number of requests sent using connections of this pool.
+     *
+     * @return the number of requests
+     */
+    long getRequestCount();
+}
@@ -39,6 +39,7 @@
  */
 
 /**
- * This package defines APIs specific to the HTTP binding.
+ * This package defines APIs specific to the HTTP binding, and
+ * features of the HTTP transport.
  */
 package javax.xml.ws.http;
@@ -0,0 +1,98 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.metrics;
+
+import java.util.Collection;
+
+/**
+ * Runtime statistics of an {@link javax.xml.ws.Endpoint}, as seen by
+ * applications.
+ * <p>
+ * The statistics are recorded by the JAX-WS runtime using an
+ * {@link EndpointMetricsRecorder}, and can only be read through this
+ * interface: directly, through JMX as it extends
+ * {@link EndpointMetricsMXBean}, or by adding a {@link MetricsSink}.
+ *
+ * @see javax.xml.ws.Endpoint#getMetrics
+ * @see javax.xml.ws.EndpointContext#getMetrics
+ * @since JAX-WS 2.4
+ */
+public interface EndpointMetrics extends EndpointMetricsMXBean {
+
+    /**
+     * Returns a copy of the histogram of the latencies of completed
+     * requests. Changes to the copy do not affect these metrics.
+     *
+     * @return the latency histogram, in nanoseconds
+     */
+    LatencyHistogram getLatency();
+
+    /**
+     * Adds a sink called for every request completed after this call.
+     *
+     * @param sink the sink to add
+     * @throws NullPointerException if {@code sink} is {@code null}
+     */
+    void addSink(MetricsSink sink);
+
+    /**
+     * Removes a sink added using {@link #addSink}.
+     *
+     * @param sink the sink to remove
+     */
+    void removeSink(MetricsSink sink);
+
+    /**
+     * Returns metrics which are the sum of the given metrics at the time
+     * of the call. The returned metrics are not updated afterwards, and
+     * sinks added to them are never called.
+     *
+     * @param metrics the metrics to add
+     * @return the aggregated metrics
+     */
+    static EndpointMetrics aggregate(Collection<? extends EndpointMetrics> metrics) {
+        EndpointMetricsRecorder sum = new EndpointMetricsRecorder();
+        for (EndpointMetrics m : metrics) {
+            sum.add(m);
+        }
+        return sum.getMetrics();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records the runtime statistics of an {@link javax.xml.ws.Endpoint}.
+ * <p>
+ * A JAX-WS runtime keeps one recorder per endpoint, records every request
+ * using {@link #requestStarted} and {@link #requestCompleted}, and returns
+ * {@link #getMetrics} from {@link javax.xml.ws.Endpoint#getMetrics}, so that
+ * applications can read the statistics but not modify them. Recording does
+ * not lock, so it can be done on every request of a busy endpoint.
+ *
+ * @since JAX-WS 2.4
+ */
+public final class EndpointMetricsRecorder {
+
+    private static final Logger logger = Logger.getLogger("javax.xml.ws");
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder faults = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final List<MetricsSink> sinks = new CopyOnWriteArrayList<MetricsSink>();
+    private final EndpointMetrics metrics = new Metrics();
+
+    /**
+     * Creates a recorder with empty metrics.
+     */
+    public EndpointMetricsRecorder() {
+    }
+
+    /**
+     * Returns the read-only view of the recorded metrics given to
+     * applications.
+     *
+     * @return the metrics
+     */
+    public EndpointMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Records that the endpoint has started processing a request.
+     */
+    public void requestStarted() {
+        inFlight.increment();
+    }
+
+    /**
+     * Records that the endpoint has completed a request, for which
+     * {@link #requestStarted} has been called, and passes it to the sinks.
+     *
+     * @param latencyNanos the time spent processing the request, in
+     *        nanoseconds
+     * @param fault whether the request was answered with a fault
+     * @param received the size of the request, or 0 if not known
+     * @param sent the size of the response, or 0 if not known
+     */
+    public void requestCompleted(long latencyNanos, boolean fault, long received, long sent) {
+        inFlight.decrement();
+        requests.increment();
+        if (fault) {
+            faults.increment();
+        }
+        bytesReceived.add(received);
+        bytesSent.add(sent);
+        latency.record(latencyNanos);
+        for (MetricsSink sink : sinks) {
+            try {
+                sink.requestCompleted(metrics, latencyNanos, fault, received, sent);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "MetricsSink " + sink + " failed", e);
+            }
+        }
+    }
+
+    // adds the current values of the given metrics, see EndpointMetrics.aggregate
+    void add(EndpointMetrics m) {
+        requests.add(m.getRequestCount());
+        inFlight.add(m.getInFlightRequests());
+        faults.add(m.getFaultCount());
+        bytesReceived.add(m.getBytesReceived());
+        bytesSent.add(m.getBytesSent());
+        latency.add(m.getLatency());
+    }
+
+    private final class Metrics implements EndpointMetrics {
+
+        @Override
+        public LatencyHistogram getLatency() {
+            LatencyHistogram copy = new LatencyHistogram();
+            copy.add(latency);
+            return copy;
+        }
+
+        @Override
+        public void addSink(MetricsSink sink) {
+            if (sink == null) {
+                throw new NullPointerException("sink");
+            }
+            sinks.add(sink);
+        }
+
+        @Override
+        public void removeSink(MetricsSink sink) {
+            sinks.remove(sink);
+        }
+
+        @Override
+        public long getRequestCount() {
+            return requests.sum();
+        }
+
+        @Override
+        public long getInFlightRequests() {
+            return inFlight.sum();
+        }
+
+        @Override
+        public long getFaultCount() {
+            return faults.sum();
+        }
+
+        @Override
+        public long getBytesReceived() {
+            return bytesReceived.sum();
+        }
+
+        @Override
+        public long getBytesSent() {
+            return bytesSent.sum();
+        }
+
+        @Override
+        public double getLatencyMeanMicros() {
+            return latency.getMean() / 1000;
+        }
+
+        @Override
+        public long getLatencyP50Micros() {
+            return TimeUnit.NANOSECONDS.toMicros(latency.getValueAtPercentile(50));
+        }
+
+        @Override
+        public long getLatencyP99Micros() {
+            return TimeUnit.NANOSECONDS.toMicros(latency.getValueAtPercentile(99));
+        }
+
+        @Override
+        public long getLatencyMaxMicros() {
+            return TimeUnit.NANOSECONDS.toMicros(latency.getMax());
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.soap;
+
+import javax.xml.ws.WebServiceFeature;
+import javax.xml.ws.WebServiceException;
+import javax.xml.ws.Endpoint;
+import javax.xml.ws.Service;
+
+/**
+ * This feature represents the use of HTTP content encoding to
+ * compress the messages exchanged with a web service.
+ *
+ * This feature can be used during the creation of SEI proxy, and
+ * {@link javax.xml.ws.Dispatch} instances on the client side and {@link Endpoint}
+ * instances on the server side. This feature cannot be used for {@link Service}
+ * instance creation on the client side.
+ *
+ * <p>
+ * The following describes the affects of this feature with respect
+ * to being enabled or disabled:
+ * <ul>
+ *  <li> ENABLED: In this Mode, compression will be enabled. A receiver
+ * MUST accept messages with a {@code Content-Encoding} of {@code gzip} or
+ * {@code deflate}, as well as uncompressed messages. A client MUST send an
+ * {@code Accept-Encoding} header listing the configured
+ * {@link #getAlgorithm algorithm}, and MAY send compressed requests.
+ * An endpoint MUST only send a compressed response when the request
+ * accepted the content coding. Messages of at least {@link #threshold}
+ * bytes SHOULD be compressed, smaller messages SHOULD NOT be.
+ *  <li> DISABLED: In this Mode, compression will be disabled. Messages are
+ * sent uncompressed; whether compressed messages are accepted is
+ * implementation-specific.
+ * </ul>
+ * <p>
+ * Compression is applied while the message is streamed: the body is
+ * encoded as it is written and decoded as it is read, and is not buffered
+ * as a whole. As the size of a streamed message is not known in advance,
+ * an implementation MAY buffer up to {@link #threshold} bytes to decide
+ * whether to compress it. On the server side, this applies to the
+ * bodies of the {@link javax.xml.ws.spi.http.HttpExchange} of an endpoint
+ * published using a {@link javax.xml.ws.spi.http.HttpContext}: the request
+ * body is decoded by JAX-WS runtime according to its
+ * {@code Content-Encoding}, and a compressed response is sent with the
+ * {@link javax.xml.ws.spi.http.HttpExchange#RESPONSE_LENGTH_UNKNOWN}
+ * response length.
+ *
+ * @see Compression
+ *
+ * @since JAX-WS 2.4
+ */
+public final class CompressionFeature extends WebServiceFeature {
+    /**
+     * Constant value identifying the CompressionFeature
+     */
+    public static final String ID = "javax.xml.ws.soap.CompressionFeature";
+
+    /**
+     * Default value of the {@link #threshold} property.
+     */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    /**
+     * Level selecting the default trade-off between speed and compression
+     * of the algorithm.
+     */
+    public static final int DEFAULT_LEVEL = -1;
+
+    /**
+     * HTTP content codings which can be used to compress messages.
+     */
+    public enum Algorithm {
+        /**
+         * The {@code gzip} content coding.
+         */
+        GZIP("gzip"),
+
+        /**
+         * The {@code deflate} content coding, that is the zlib format.
+         */
+        DEFLATE("deflate");
+
+        private final String contentCoding;
+
+        Algorithm(String contentCoding) {
+            this.contentCoding = contentCoding;
+        }
+
+        /**
+         * Gets the name of the content coding, as used in the
+         * {@code Content-Encoding} and {@code Accept-Encoding} headers.
+         *
+         * @return the name of the content coding
+         */
+        public String getContentCoding() {
+            return contentCoding;
+        }
+    }
+
+    private final Algorithm algorithm;
+
+    /**
+     * Property for the compression threshold value. Messages of this size
+     * in bytes or larger SHOULD be compressed.
+     * The value of this property MUST always be {@literal >=} 0.
+     */
+    private final int threshold;
+
+    private final int level;
+
+    /**
+     * Creates a {@code CompressionFeature} using {@link Algorithm#GZIP},
+     * the {@link #DEFAULT_THRESHOLD} and the {@link #DEFAULT_LEVEL}.
+     * The instance created will be enabled.
+     */
+    public CompressionFeature() {
+        this(true, Algorithm.GZIP, DEFAULT_THRESHOLD, DEFAULT_LEVEL);
+    }
+
+    /**
+     * Creates a {@code CompressionFeature} using {@link Algorithm#GZIP},
+     * the {@link #DEFAULT_THRESHOLD} and the {@link #DEFAULT_LEVEL}.
+     *
+     * @param enabled specifies if this feature should be enabled or not
+     */
+    public CompressionFeature(boolean enabled) {
+        this(enabled, Algorithm.GZIP, DEFAULT_THRESHOLD, DEFAULT_LEVEL);
+    }
+
+    /**
+     * Creates a {@code CompressionFeature}.
+     * The instance created will be enabled.
+     *
+     * @param algorithm the content coding used to compress messages
+     * @param threshold the size in bytes that a message SHOULD be before
+     * being compressed
+     * @param level the compression level, from 0 (no compression) to 9
+     * (best compression), or {@link #DEFAULT_LEVEL}
+     *
+     * @throws WebServiceException if algorithm is {@code null}, threshold
+     * is {@literal <} 0, or level is not a valid level
+     */
+    public CompressionFeature(Algorithm algorithm, int threshold, int level) {
+        this(true, algorithm, threshold, level);
+    }
+
+    /**
+     * Creates a {@code CompressionFeature}.
+     *
+     * @param enabled specifies if this feature should be enabled or not
+     * @param algorithm the content coding used to compress messages
+     * @param threshold the size in bytes that a message SHOULD be before
+     * being compressed
+     * @param level the compression level, from 0 (no compression) to 9
+     * (best compression), or {@link #DEFAULT_LEVEL}
+     *
+     * @throws WebServiceException if algorithm is {@code null}, threshold
+     * is {@literal <} 0, or level is not a valid level
+     */
+    public CompressionFeature(boolean enabled, Algorithm algorithm, int threshold, int level) {
+        if (algorithm == null)
+            throw new WebServiceException("CompressionFeature.algorithm must not be null");
+        if (threshold < 0)
+            throw new WebServiceException("CompressionFeature.threshold must be >= 0, actual value: "+threshold);
+        if (level < DEFAULT_LEVEL || level > 9)
+            throw new WebServiceException("CompressionFeature.level must be between -1 and 9, actual value: "+level);
+        this.enabled = enabled;
+        this.algorithm = algorithm;
+        this.threshold = threshold;
+        this.level = level;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getID() {
+        return ID;
+    }
+
+    /**
+     * Gets the content coding used to compress messages.
+     *
+     * @return the compression algorithm
+     */
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Gets the threshold value used to determine when a message
+     * should be compressed.
+     *
+     * @return the current threshold size in bytes
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Gets the compression level.
+     *
+     * @return the compression level, from 0 to 9, or {@link #DEFAULT_LEVEL}
+     */
+    public int getLevel() {
+        return level;
+    }
+}
@@ -122,4 +122,23 @@ public interface SOAPBinding extends Binding {
    * @return MessageFactory instance used by this SOAP binding.
   **/
   public MessageFactory getMessageFactory();
+
+  /**
+   * Gets the index of the header blocks understood by the handler chain
+   * of this SOAP binding instance and of the roles it plays, for use in
+   * the {@code mustUnderstand} processing of inbound messages.
+   *
+   * <p>The default implementation builds a new index on every call;
+   * JAX-WS implementations SHOULD override it and build the index only
+   * when the handler chain or the roles of the binding change.
+   *
+   * @return the understood headers index, never {@code null}
+   *
+   * @see #getRoles
+   * @see javax.xml.ws.Binding#getCompiledHandlerChain
+   * @since JAX-WS 2.4
+  **/
+  public default UnderstoodHeaders getUnderstoodHeaders() {
+    return UnderstoodHeaders.create(getCompiledHandlerChain().getHeaders(), getRoles());
+  }
 }
@@ -0,0 +1,177 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.soap;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+
+/**
+ * An immutable index of the SOAP header blocks understood by a SOAP node,
+ * together with the SOAP roles played by that node.
+ * <p>
+ * The index is built once for a {@link SOAPBinding}, from the headers
+ * declared by the {@code SOAPHandler} instances of its handler chain and
+ * the roles of the binding, and is used by a JAX-WS runtime to perform the
+ * {@code mustUnderstand} check of every inbound message. Lookups use an
+ * open addressing hash table and do not allocate, so a header can be
+ * checked directly with the namespace URI and local name reported by a
+ * parser, without creating a {@code QName}.
+ *
+ * @see SOAPBinding#getUnderstoodHeaders
+ * @see javax.xml.ws.handler.soap.SOAPHandler#getHeaders
+ *
+ * @since JAX-WS 2.4
+ */
+public final class UnderstoodHeaders {
+
+    private final Set<QName> headers;
+    private final Set<String> roles;
+    private final QName[] table;
+    private final int mask;
+
+    private UnderstoodHeaders(Set<QName> headers, Set<String> roles) {
+        this.headers = Collections.unmodifiableSet(new HashSet<QName>(headers));
+        this.roles = Collections.unmodifiableSet(new HashSet<String>(roles));
+        int capacity = 2;
+        while (capacity < this.headers.size() * 2) {
+            capacity <<= 1;
+        }
+        this.table = new QName[capacity];
+        this.mask = capacity - 1;
+        for (QName header : this.headers) {
+            int i = hash(header.getNamespaceURI(), header.getLocalPart()) & mask;
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = header;
+        }
+    }
+
+    /**
+     * Creates an index of the given headers and roles.
+     *
+     * @param headers qualified names of the understood header blocks,
+     *        may be {@code null} if no header is understood
+     * @param roles the roles played by the SOAP node, may be {@code null}
+     *        if the node plays no role other than the ultimate receiver
+     * @return the index
+     */
+    public static UnderstoodHeaders create(Set<QName> headers, Set<String> roles) {
+        return new UnderstoodHeaders(
+                headers == null ? Collections.<QName>emptySet() : headers,
+                roles == null ? Collections.<String>emptySet() : roles);
+    }
+
+    /**
+     * Returns {@code true} if the header block with the given qualified
+     * name is understood.
+     *
+     * @param header qualified name of the outermost element of the header block
+     * @return {@code true} if the header block is understood
+     */
+    public boolean isUnderstood(QName header) {
+        return isUnderstood(header.getNamespaceURI(), header.getLocalPart());
+    }
+
+    /**
+     * Returns {@code true} if the header block with the given namespace URI
+     * and local name is understood.
+     *
+     * @param namespaceURI namespace URI of the outermost element of the
+     *        header block, {@code null} for no namespace
+     * @param localPart local name of the outermost element of the header block
+     * @return {@code true} if the header block is understood
+     */
+    public boolean isUnderstood(String namespaceURI, String localPart) {
+        if (namespaceURI == null) {
+            namespaceURI = XMLConstants.NULL_NS_URI;
+        }
+        int i = hash(namespaceURI, localPart) & mask;
+        QName candidate;
+        while ((candidate = table[i]) != null) {
+            if (candidate.getLocalPart().equals(localPart)
+                    && candidate.getNamespaceURI().equals(namespaceURI)) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if a header block targeted at the given role is
+     * targeted at this SOAP node. A {@code null} or empty role denotes the
+     * ultimate receiver.
+     *
+     * @param role the SOAP 1.1 actor or SOAP 1.2 role of a header block
+     * @return {@code true} if the role is played by this SOAP node
+     */
+    public boolean isRolePlayed(String role) {
+        return role == null || role.isEmpty() || roles.contains(role);
+    }
+
+    /**
+     * Returns the qualified names of all the understood header blocks.
+     *
+     * @return an unmodifiable set of header names
+     */
+    public Set<QName> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the roles played by the SOAP node.
+     *
+     * @return an unmodifiable set of roles
+     */
+    public Set<String> getRoles() {
+        return roles;
+    }
+
+    // same value as QName.hashCode(), spread over the low order bits
+    private static int hash(String namespaceURI, String localPart) {
+        int h = namespaceURI.hashCode() ^ localPart.hashCode();
+        return h ^ (h >>> 16);
+    }
+}
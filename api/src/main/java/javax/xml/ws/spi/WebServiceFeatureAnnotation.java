@@ -48,8 +48,10 @@ import java.lang.annotation.RetentionPolicy;
 import javax.xml.ws.WebServiceFeature;
 import javax.xml.ws.WebServiceRef;
 import javax.xml.ws.RespectBinding;
+import javax.xml.ws.AdmissionControl;
 import javax.xml.ws.soap.Addressing;
 import javax.xml.ws.soap.MTOM;
+import javax.xml.ws.soap.Compression;
 
 /**
  * Annotation used to identify other annotations
@@ -62,7 +64,8 @@ import javax.xml.ws.soap.MTOM;
  * <p>
  * JAX-WS defines the following
  * {@code WebServiceFeature} annotations ({@code Addressing},
- * {@code MTOM}, {@code RespectBinding}), however, an implementation
+ * {@code MTOM}, {@code RespectBinding}, {@code Compression},
+ * {@code AdmissionControl}), however, an implementation
  * may define vendors specific annotations for other features.
  * <p>
  * Annotations annotated with {@code WebServiceFeatureAnnotation} MUST
@@ -77,6 +80,8 @@ import javax.xml.ws.soap.MTOM;
  * @see Addressing
  * @see MTOM
  * @see RespectBinding
+ * @see Compression
+ * @see AdmissionControl
  *
  * @since 1.6, JAX-WS 2.1
  */
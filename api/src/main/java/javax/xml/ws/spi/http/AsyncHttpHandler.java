@@ -0,0 +1,116 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.spi.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A {@link HttpHandler} which processes requests without holding the
+ * calling thread while the request is being processed.
+ * <p>
+ * JAX-WS runtime MAY set an {@code AsyncHttpHandler} on a
+ * {@link HttpContext}. A container which is aware of this class, such as
+ * a container built around an event loop, SHOULD call
+ * {@link #handleAsync} instead of {@link #handle}, so that it does not
+ * need a thread per in-flight request. Other containers call
+ * {@code handle}, which waits for the completion of the exchange.
+ *
+ * @since JAX-WS 2.4
+ */
+public abstract class AsyncHttpHandler extends HttpHandler {
+
+    /**
+     * Starts handling a given request and returns without waiting for the
+     * response. Container invokes this method when it receives an incoming
+     * request.
+     * <p>
+     * The returned stage completes once JAX-WS runtime has written the
+     * response and closed the exchange using {@link HttpExchange#close}.
+     * If the stage completes exceptionally, the container MUST abort the
+     * exchange if it has not been completed, for example by sending an
+     * error status or by closing the connection.
+     * <p>
+     * Implementations MUST NOT block the calling thread while the request
+     * is being processed by the endpoint, and SHOULD avoid blocking
+     * reads of the request body and writes of the response body in the
+     * calling thread, for example by using the channels of the exchange.
+     *
+     * @param exchange the exchange containing the request from the
+     *      client and used to send the response
+     * @return a stage which completes when the exchange is complete
+     */
+    public abstract CompletionStage<Void> handleAsync(HttpExchange exchange);
+
+    /**
+     * Handles a given request and waits until the exchange is complete.
+     * This method is used by containers which call every
+     * {@code HttpHandler} synchronously.
+     *
+     * @param exchange the exchange containing the request from the
+     *      client and used to send the response
+     * @throws IOException when an I/O error happens during request
+     *      handling
+     */
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            handleAsync(exchange).toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while handling the exchange");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
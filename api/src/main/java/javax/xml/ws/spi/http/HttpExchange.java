@@ -45,6 +45,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -92,6 +95,16 @@ public abstract class HttpExchange {
     public static final String REQUEST_X509CERTIFICATE =
             "javax.xml.ws.spi.http.request.cert.X509Certificate";
 
+    /**
+     * Response length meaning that the length of the response body is not
+     * known in advance, and the body is streamed to the client as it is
+     * written, using chunked transfer coding for HTTP/1.1.
+     *
+     * @see #setResponseLength
+     * @since JAX-WS 2.4
+     */
+    public static final long RESPONSE_LENGTH_UNKNOWN = -1;
+
     /**
      * Returns an immutable Map containing the HTTP headers that were 
      * included with this request. The keys in this Map will be the header 
@@ -114,6 +127,12 @@ public abstract class HttpExchange {
      * returns the first header in the request. The header name is
      * case-insensitive. This is a convienence method to get a header
      * (instead of using the {@link #getRequestHeaders}).
+     * <p>
+     * Header names are compared ignoring the case of ASCII characters.
+     * JAX-WS runtime calls this method for every request, so containers
+     * SHOULD look the header up in the received header data directly,
+     * without building the Map returned by {@link #getRequestHeaders}
+     * and without allocating a List for the value.
      *
      * @param name the name of the request header
      * @return returns the value of the requested header,
@@ -121,6 +140,81 @@ public abstract class HttpExchange {
      */
      public abstract String getRequestHeader(String name);
 
+    /**
+     * Returns the value of the {@code Content-Type} request header.
+     * Containers which parse this header while reading the request
+     * SHOULD override this method to return the parsed value.
+     *
+     * @return the content type of the request, or null if the request
+     *         does not have a {@code Content-Type} header
+     * @since JAX-WS 2.4
+     */
+    public String getRequestContentType() {
+        return getRequestHeader("Content-Type");
+    }
+
+    /**
+     * Returns the SOAP action of the request. This is the value of the
+     * {@code SOAPAction} request header used by SOAP 1.1, without the
+     * surrounding quotes, or else the value of the {@code action}
+     * parameter of the {@code Content-Type} header used by SOAP 1.2.
+     * Containers which parse these headers while reading the request
+     * SHOULD override this method to return the parsed value.
+     *
+     * @return the SOAP action of the request, which is empty for a
+     *         {@code SOAPAction: ""} header, or null if the request does
+     *         not specify a SOAP action
+     * @since JAX-WS 2.4
+     */
+    public String getSOAPAction() {
+        String action = getRequestHeader("SOAPAction");
+        if (action != null) {
+            return unquote(action.trim());
+        }
+        String contentType = getRequestContentType();
+        return contentType != null ? getParameter(contentType, "action") : null;
+    }
+
+    private static String getParameter(String contentType, String name) {
+        int length = contentType.length();
+        int i = contentType.indexOf(';');
+        while (i != -1) {
+            int start = i + 1;
+            // the parameter ends at the next ';' which is not quoted,
+            // a parameter without '=' before that has no value
+            int end = start;
+            int eq = -1;
+            boolean quoted = false;
+            while (end < length) {
+                char c = contentType.charAt(end);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (!quoted) {
+                    if (c == ';') {
+                        break;
+                    }
+                    if (c == '=' && eq == -1) {
+                        eq = end;
+                    }
+                }
+                end++;
+            }
+            if (eq != -1 && contentType.substring(start, eq).trim().equalsIgnoreCase(name)) {
+                return unquote(contentType.substring(eq + 1, end).trim());
+            }
+            i = end < length ? end : -1;
+        }
+        return null;
+    }
+
+    private static String unquote(String value) {
+        int length = value.length();
+        if (length >= 2 && value.charAt(0) == '"' && value.charAt(length - 1) == '"') {
+            return value.substring(1, length - 1);
+        }
+        return value;
+    }
+
     /**
      * Returns a mutable Map into which the HTTP response headers can be stored
      * and which will be transmitted as part of this response. The keys in the 
@@ -213,12 +307,60 @@ public abstract class HttpExchange {
      * written. {@link #setStatus}) must be called prior to calling
      * this method. Multiple calls to this method (for the same exchange)
      * will return the same stream.
+     * <p>
+     * If a response length was set using {@link #setResponseLength},
+     * exactly that number of bytes must be written to the stream.
      *
      * @return the stream to which the response body is written
      * @throws IOException if any i/o error during response processing
      */
     public abstract OutputStream getResponseBody() throws IOException;
 
+    /**
+     * Returns a channel from which the request body can be read. This is
+     * an alternative to {@link #getRequestBody} for containers built on
+     * NIO, allowing the body to be read into {@code ByteBuffer}s without
+     * intermediate {@code byte[]} copies. Containers MAY return a
+     * {@link java.nio.channels.ScatteringByteChannel}.
+     *
+     * <p>The request body must be read either using the stream or using
+     * the channel, the result of mixing both is undefined.
+     *
+     * <p>The default implementation adapts the stream returned by
+     * {@link #getRequestBody}; containers SHOULD override it to read
+     * directly from their network buffers.
+     *
+     * @return the channel from which the request body can be read.
+     * @throws IOException if any i/o error during request processing
+     * @since JAX-WS 2.4
+     */
+    public ReadableByteChannel getRequestChannel() throws IOException {
+        return Channels.newChannel(getRequestBody());
+    }
+
+    /**
+     * Returns a channel to which the response body must be written. This is
+     * an alternative to {@link #getResponseBody} for containers built on
+     * NIO, allowing the body to be written from {@code ByteBuffer}s without
+     * intermediate {@code byte[]} copies. Containers MAY return a
+     * {@link java.nio.channels.GatheringByteChannel}.
+     * {@link #setStatus} must be called prior to calling this method.
+     *
+     * <p>The response body must be written either using the stream or
+     * using the channel, the result of mixing both is undefined.
+     *
+     * <p>The default implementation adapts the stream returned by
+     * {@link #getResponseBody}; containers SHOULD override it to write
+     * directly to their network buffers.
+     *
+     * @return the channel to which the response body is written
+     * @throws IOException if any i/o error during response processing
+     * @since JAX-WS 2.4
+     */
+    public WritableByteChannel getResponseChannel() throws IOException {
+        return Channels.newChannel(getResponseBody());
+    }
+
     /**
      * Sets the HTTP status code for the response.
      *
@@ -230,6 +372,62 @@ public abstract class HttpExchange {
      */
     public abstract void setStatus(int status);
 
+    /**
+     * Sets the length of the response body. This is a hint: a container
+     * supporting it sends a length of zero or more as the
+     * {@code Content-Length} of the response, so that the body is sent
+     * without chunking it.
+     * {@link #RESPONSE_LENGTH_UNKNOWN} requests a streamed response, for
+     * which the container SHOULD send the body as it is written, with
+     * bounded buffering, rather than buffer the whole response to compute
+     * its length. If this method is not called, the response is streamed.
+     *
+     * <p>
+     * This method must be called prior to calling {@link #getResponseBody}
+     * or {@link #getResponseChannel}. If a length of zero or more is set,
+     * exactly that number of bytes must be written, whether or not the
+     * container uses the length; the container MAY
+     * fail the write of extra bytes with an {@code IOException}, and MAY
+     * close the connection if fewer bytes have been written when the
+     * exchange is closed.
+     *
+     * <p>
+     * The default implementation only checks the length and otherwise
+     * ignores it, so the response is streamed as if this method had not
+     * been called. Containers SHOULD override it. Adding a
+     * {@code Content-Length} header is not a substitute, as a container
+     * which still chunks the body would then send both
+     * {@code Content-Length} and {@code Transfer-Encoding} headers.
+     *
+     * @param length the number of bytes in the response body, or
+     *        {@link #RESPONSE_LENGTH_UNKNOWN}
+     * @throws IllegalArgumentException if {@code length} is less than
+     *         {@link #RESPONSE_LENGTH_UNKNOWN}
+     * @since JAX-WS 2.4
+     */
+    public void setResponseLength(long length) {
+        if (length < RESPONSE_LENGTH_UNKNOWN) {
+            throw new IllegalArgumentException("Invalid response length: " + length);
+        }
+    }
+
+    /**
+     * Sets the HTTP status code and the length of the response body. This
+     * is equivalent to calling {@link #setStatus(int)} and
+     * {@link #setResponseLength}.
+     *
+     * @param status the response code to send
+     * @param length the number of bytes in the response body, or
+     *        {@link #RESPONSE_LENGTH_UNKNOWN}
+     * @throws IllegalArgumentException if {@code length} is less than
+     *         {@link #RESPONSE_LENGTH_UNKNOWN}
+     * @since JAX-WS 2.4
+     */
+    public void setStatus(int status, long length) {
+        setStatus(status);
+        setResponseLength(length);
+    }
+
     /**
      * Returns the unresolved address of the remote entity invoking
      * this request.
@@ -248,7 +446,7 @@ public abstract class HttpExchange {
     /**
      * Returns the protocol string from the request in the form 
      * <i>protocol/majorVersion.minorVersion</i>. For example,
-     * "HTTP/1.1"
+     * "HTTP/1.1" or "HTTP/2.0"
      *
      * @return the protocol string from the request
      */
@@ -340,4 +538,123 @@ public abstract class HttpExchange {
      */
     public abstract boolean isUserInRole(String role);
 
+    /**
+     * Returns {@code true} if this exchange supports asynchronous
+     * processing, see {@link #startAsync}.
+     *
+     * <p>The default implementation returns {@code false}.
+     *
+     * @return {@code true} if {@link #startAsync} is supported
+     * @since JAX-WS 2.4
+     */
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    /**
+     * Puts this exchange in asynchronous mode. JAX-WS runtime calls this
+     * method from {@link HttpHandler#handle} when the response is not
+     * available when {@code handle} returns, for example for an
+     * {@link javax.xml.ws.AsyncProvider} endpoint. The container then
+     * MUST NOT complete the exchange when {@code handle} returns; the
+     * exchange is completed when JAX-WS runtime calls {@link #close},
+     * possibly from another thread.
+     *
+     * <p>If asynchronous processing is not supported, JAX-WS runtime
+     * blocks in {@code handle} until the response has been written.
+     * Exchanges passed to {@link AsyncHttpHandler#handleAsync} are always
+     * processed asynchronously and need not be put in asynchronous mode.
+     *
+     * @throws UnsupportedOperationException if asynchronous processing
+     *         is not supported by the container
+     * @throws IllegalStateException if the response has already been
+     *         completed
+     * @since JAX-WS 2.4
+     */
+    public void startAsync() {
+        throw new UnsupportedOperationException("Asynchronous exchanges are not supported by this container.");
+    }
+
+    /**
+     * Returns the identifier of the stream carrying this exchange when the
+     * connection multiplexes several exchanges, as HTTP/2 does.
+     *
+     * <p>The default implementation returns -1; containers supporting
+     * multiplexed connections SHOULD override it.
+     *
+     * @return the stream identifier, or -1 if the exchange does not use
+     *         a multiplexed connection
+     * @since JAX-WS 2.4
+     */
+    public long getStreamId() {
+        return -1;
+    }
+
+    /**
+     * Returns whether this exchange shares its connection with other
+     * exchanges in progress, as on a HTTP/2 connection. Exchanges of a
+     * multiplexed connection are independent of each other, so JAX-WS
+     * runtime SHOULD NOT hold the thread of the connection while
+     * processing one of them; containers SHOULD dispatch them using
+     * {@link AsyncHttpHandler#handleAsync} or support
+     * {@link #startAsync}.
+     *
+     * @return true if the connection is multiplexed
+     * @since JAX-WS 2.4
+     */
+    public boolean isMultiplexed() {
+        return getStreamId() != -1;
+    }
+
+    /**
+     * Returns whether response trailers can be sent for this exchange.
+     *
+     * <p>The default implementation returns false.
+     *
+     * @return true if {@link #addResponseTrailer} is supported
+     * @since JAX-WS 2.4
+     */
+    public boolean isResponseTrailersSupported() {
+        return false;
+    }
+
+    /**
+     * Adds a trailer field, which is sent after the response body. This
+     * allows JAX-WS runtime to report a failure which happened after the
+     * status and part of a streamed body have been sent, for example the
+     * SOAP fault code of an endpoint failing in the middle of the
+     * response. This method must be called before the exchange is closed.
+     *
+     * <p>The default implementation throws
+     * {@code UnsupportedOperationException}.
+     *
+     * @param name the name of the trailer field
+     * @param value the value of the trailer field
+     * @throws UnsupportedOperationException if response trailers are not
+     *         supported for this exchange
+     * @throws IllegalStateException if the exchange has been closed
+     * @see #isResponseTrailersSupported
+     * @since JAX-WS 2.4
+     */
+    public void addResponseTrailer(String name, String value) {
+        throw new UnsupportedOperationException("Response trailers are not supported by this container.");
+    }
+
+    /**
+     * Returns a hint of the number of bytes of the response body the
+     * client is currently ready to receive, for example the HTTP/2 flow
+     * control window of the stream. JAX-WS runtime MAY use it to size the
+     * buffers used to write the response, and to avoid blocking a thread
+     * in writes to a stream whose window is exhausted.
+     *
+     * <p>The default implementation returns -1.
+     *
+     * @return the number of bytes the client is ready to receive, or -1
+     *         if not known
+     * @since JAX-WS 2.4
+     */
+    public long getResponseWindowSize() {
+        return -1;
+    }
+
 }
@@ -0,0 +1,178 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.xml.ws.spi.http;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A lazily populated, read-only view of the request headers of a
+ * {@link HttpExchange}, suitable as the value of
+ * {@link javax.xml.ws.handler.MessageContext#HTTP_REQUEST_HEADERS}.
+ * <p>
+ * Creating the view does not access the headers of the exchange at all.
+ * {@link HttpExchange#getRequestHeaders()} is called, and the header
+ * lists are built, only when a header is first looked up or the headers
+ * are iterated, so that a JAX-WS runtime may expose the request headers
+ * to handlers and endpoints on every request at no cost for the requests
+ * where nobody reads them.
+ * <p>
+ * Header names are case-insensitive. Neither the view nor the value
+ * lists it returns can be modified. Lookups by name do not allocate
+ * once the view has been populated. A single header value can be read
+ * using {@link #getFirst} without populating the view, and the content
+ * type and SOAP action are available as parsed values from
+ * {@link #getContentType} and {@link #getSOAPAction}.
+ *
+ * @since JAX-WS 2.4
+ */
+public final class HttpRequestHeaders extends AbstractMap<String, List<String>> {
+
+    private final HttpExchange exchange;
+    private Map<String, List<String>> headers;
+    private String contentType;
+    private String soapAction;
+    private boolean parsed;
+
+    /**
+     * Creates a view of the request headers of the given exchange.
+     *
+     * @param exchange the exchange
+     * @throws NullPointerException if {@code exchange} is {@code null}
+     */
+    public HttpRequestHeaders(HttpExchange exchange) {
+        if (exchange == null) {
+            throw new NullPointerException("exchange");
+        }
+        this.exchange = exchange;
+    }
+
+    /**
+     * Returns the first value of the given request header, as returned by
+     * {@link HttpExchange#getRequestHeader}.
+     *
+     * @param name the case-insensitive name of the header
+     * @return the first value of the header, or {@code null} if the
+     *         request does not have a header of that name
+     */
+    public String getFirst(String name) {
+        return exchange.getRequestHeader(name);
+    }
+
+    /**
+     * Returns the content type of the request, as returned by
+     * {@link HttpExchange#getRequestContentType}. The value is obtained
+     * from the exchange only once.
+     *
+     * @return the content type, or {@code null} if the request does not
+     *         have a {@code Content-Type} header
+     */
+    public String getContentType() {
+        parse();
+        return contentType;
+    }
+
+    /**
+     * Returns the SOAP action of the request, as returned by
+     * {@link HttpExchange#getSOAPAction}. The value is obtained from the
+     * exchange only once.
+     *
+     * @return the SOAP action, or {@code null} if the request does not
+     *         specify one
+     */
+    public String getSOAPAction() {
+        parse();
+        return soapAction;
+    }
+
+    private void parse() {
+        if (!parsed) {
+            contentType = exchange.getRequestContentType();
+            soapAction = exchange.getSOAPAction();
+            parsed = true;
+        }
+    }
+
+    @Override
+    public List<String> get(Object name) {
+        return name instanceof String ? headers().get(name) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return name instanceof String && headers().containsKey(name);
+    }
+
+    @Override
+    public int size() {
+        return headers().size();
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return headers().entrySet();
+    }
+
+    private Map<String, List<String>> headers() {
+        if (headers == null) {
+            // the value lists of the exchange are wrapped, not copied
+            Map<String, List<String>> copy = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+            for (Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+                List<String> values = copy.get(header.getKey());
+                if (values == null) {
+                    copy.put(header.getKey(), Collections.unmodifiableList(header.getValue()));
+                } else {
+                    // same header with keys differing in case only
+                    List<String> merged = new ArrayList<String>(values);
+                    merged.addAll(header.getValue());
+                    copy.put(header.getKey(), Collections.unmodifiableList(merged));
+                }
+            }
+            headers = Collections.unmodifiableMap(copy);
+        }
+        return headers;
+    }
+}
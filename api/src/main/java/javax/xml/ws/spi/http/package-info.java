@@ -93,6 +93,14 @@
                                           7. Writes the response to HttpExchange
   }</pre>
 
+  <p>
+  A JAX-WS runtime may register an {@link javax.xml.ws.spi.http.AsyncHttpHandler}
+  instead. A container that knows about it then calls
+  {@code AsyncHttpHandler.handleAsync(HttpExchange)}, which returns without
+  waiting for the response, and completes its {@code CompletionStage}
+  once the exchange has been closed. Such a container does not need a
+  thread per in-flight request.
+
   <p>
   The portable undeployment is done as below:
   <pre>
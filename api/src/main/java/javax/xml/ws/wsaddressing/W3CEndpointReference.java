@@ -56,6 +56,7 @@ import javax.xml.namespace.QName;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.ws.EndpointReference;
+import javax.xml.ws.JAXBContextRegistry;
 import javax.xml.ws.WebServiceException;
 import java.util.List;
 import java.util.Map;
@@ -144,11 +145,7 @@ public final class W3CEndpointReference extends EndpointReference {
     }
 
     private static JAXBContext getW3CJaxbContext() {
-        try {
-            return JAXBContext.newInstance(W3CEndpointReference.class);
-        } catch (JAXBException e) {
-            throw new WebServiceException("Error creating JAXBContext for W3CEndpointReference. ", e);
-        }
+        return JAXBContextRegistry.getContext(W3CEndpointReference.class);
     }
 
     // private but necessary properties for databinding
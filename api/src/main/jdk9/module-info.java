@@ -48,6 +48,7 @@ module java.xml.ws {
     exports javax.xml.ws.handler;
     exports javax.xml.ws.handler.soap;
     exports javax.xml.ws.http;
+    exports javax.xml.ws.metrics;
     exports javax.xml.ws.soap;
     exports javax.xml.ws.spi;
     exports javax.xml.ws.spi.http;
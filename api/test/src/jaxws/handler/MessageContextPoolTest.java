@@ -0,0 +1,157 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package jaxws.handler;
+
+import java.util.Iterator;
+import java.util.Map;
+import javax.xml.ws.handler.MessageContext;
+import javax.xml.ws.handler.MessageContextPool;
+import javax.xml.ws.handler.ScopedMessageContext;
+
+/**
+ * Tests that {@link MessageContextPool} and {@link ScopedMessageContext}
+ * detect the use of released contexts. Must be run with system assertions
+ * enabled ({@code -esa}), as the API classes may be endorsed.
+ */
+public class MessageContextPoolTest {
+
+    private static final ScopedMessageContext BASE = new ScopedMessageContext();
+
+    public static void main(String[] args) {
+        if (!ScopedMessageContext.class.desiredAssertionStatus()) {
+            log(" FAILED -  ERROR: assertions are not enabled for javax.xml.ws, run with -esa");
+            throw new RuntimeException("assertions disabled");
+        }
+        final MessageContextPool<ScopedMessageContext> pool = newPool(1);
+
+        // released context kept by the pool
+        final ScopedMessageContext kept = pool.acquire();
+        pool.release(kept);
+        fails("double release", new Runnable() {
+            public void run() {
+                pool.release(kept);
+            }
+        });
+
+        // released context discarded by the pool, which is already full
+        final ScopedMessageContext first = pool.acquire();
+        final ScopedMessageContext second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+        fails("double release of a discarded context", new Runnable() {
+            public void run() {
+                pool.release(second);
+            }
+        });
+
+        final ScopedMessageContext released = newPool(1).acquire();
+        released.put("a", "1", MessageContext.Scope.APPLICATION);
+        final Map<String, Object> view = released.getScopedView(MessageContext.Scope.APPLICATION);
+        final Iterator<String> keys = released.keySet().iterator();
+        released.release();
+        fails("context used after release", new Runnable() {
+            public void run() {
+                released.get("a");
+            }
+        });
+        fails("view used after release", new Runnable() {
+            public void run() {
+                view.get("a");
+            }
+        });
+        fails("iterator used after release", new Runnable() {
+            public void run() {
+                keys.hasNext();
+            }
+        });
+
+        // stale view of a context acquired again
+        MessageContextPool<ScopedMessageContext> reused = newPool(1);
+        ScopedMessageContext context = reused.acquire();
+        final Map<String, Object> stale = context.getScopedView(MessageContext.Scope.APPLICATION);
+        final Map<String, Object> entries = context;
+        final Iterator<Map.Entry<String, Object>> staleEntries = entries.entrySet().iterator();
+        reused.release(context);
+        final ScopedMessageContext again = reused.acquire();
+        check("same context acquired again", again == context);
+        again.put("b", "2", MessageContext.Scope.APPLICATION);
+        fails("stale view used after reset", new Runnable() {
+            public void run() {
+                stale.put("c", "3");
+            }
+        });
+        fails("stale iterator used after reset", new Runnable() {
+            public void run() {
+                staleEntries.hasNext();
+            }
+        });
+        check("new view of the acquired context",
+                "2".equals(again.getScopedView(MessageContext.Scope.APPLICATION).get("b")));
+        reused.release(again);
+    }
+
+    private static MessageContextPool<ScopedMessageContext> newPool(int capacity) {
+        return new MessageContextPool<ScopedMessageContext>(() -> new ScopedMessageContext(BASE), capacity);
+    }
+
+    private static void fails(String msg, Runnable action) {
+        try {
+            action.run();
+        } catch (AssertionError expected) {
+            log(" PASSED " + msg + ": " + expected.getMessage());
+            return;
+        }
+        log(" FAILED -  ERROR: " + msg + " not detected");
+        throw new RuntimeException(msg);
+    }
+
+    private static void check(String msg, boolean condition) {
+        if (!condition) {
+            log(" FAILED -  ERROR: " + msg);
+            throw new RuntimeException(msg);
+        }
+        log(" PASSED " + msg);
+    }
+
+    private static void log(String msg) {
+        System.out.println(msg);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package jaxws.handler;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.xml.ws.handler.MessageContext;
+import javax.xml.ws.handler.MessageContext.Scope;
+import javax.xml.ws.handler.ScopedMessageContext;
+
+/**
+ * Tests the layering of {@link ScopedMessageContext}: shadowing of the
+ * properties of the base, removal of base properties and scoped views.
+ */
+public class ScopedMessageContextTest {
+
+    public static void main(String[] args) {
+        ScopedMessageContext root = new ScopedMessageContext();
+        root.put("a", "root-a", Scope.APPLICATION);
+        root.put("b", "root-b", Scope.HANDLER);
+        root.put(MessageContext.HTTP_RESPONSE_CODE, 200, Scope.APPLICATION);
+        ScopedMessageContext base = new ScopedMessageContext(root);
+        base.put("a", "base-a");
+        base.put("c", "base-c", Scope.APPLICATION);
+        ScopedMessageContext context = new ScopedMessageContext(base);
+
+        check("frozen base", base.isFrozen() && root.isFrozen());
+        check("inherited properties", context.equals(map("a", "base-a", "b", "root-b",
+                MessageContext.HTTP_RESPONSE_CODE, 200, "c", "base-c")));
+
+        // shadowing
+        context.put("b", "b");
+        context.put(MessageContext.HTTP_RESPONSE_CODE, 500);
+        check("shadowed properties", context.equals(map("a", "base-a", "b", "b",
+                MessageContext.HTTP_RESPONSE_CODE, 500, "c", "base-c")));
+        check("shadowed property keeps its scope",
+                context.getScope("b") == Scope.HANDLER
+                && context.getScope(MessageContext.HTTP_RESPONSE_CODE) == Scope.APPLICATION);
+        check("base not modified", "root-b".equals(base.get("b"))
+                && Integer.valueOf(200).equals(base.get(MessageContext.HTTP_RESPONSE_CODE)));
+        check("hash code", context.hashCode() == new HashMap<String, Object>(context).hashCode());
+
+        // scope filtering
+        Map<String, Object> application = context.getScopedView(Scope.APPLICATION);
+        check("application scope", application.equals(map("a", "base-a",
+                MessageContext.HTTP_RESPONSE_CODE, 500, "c", "base-c")));
+        check("handler scope", context.getScopedView(Scope.HANDLER).equals(map("b", "b")));
+        application.put("d", "d");
+        check("put into a view", context.getScope("d") == Scope.APPLICATION && application.size() == 4);
+        check("handler property hidden from the view",
+                application.get("b") == null && application.remove("b") == null && context.containsKey("b"));
+        check("snapshot", context.getScopedSnapshot(Scope.APPLICATION).equals(application));
+
+        // removal of base properties
+        check("remove", "base-a".equals(context.remove("a")) && !context.containsKey("a"));
+        check("removed from the view", !application.containsKey("a") && application.size() == 3);
+        check("base keeps removed property", "base-a".equals(base.get("a")));
+        context.put("a", "a", Scope.HANDLER);
+        check("removed property set again", "a".equals(context.get("a")) && context.getScope("a") == Scope.HANDLER);
+        for (Iterator<String> it = context.keySet().iterator(); it.hasNext(); ) {
+            String name = it.next();
+            if (name.equals("c") || name.equals(MessageContext.HTTP_RESPONSE_CODE)) {
+                it.remove();
+            }
+        }
+        check("iterator remove", context.equals(map("a", "a", "b", "b", "d", "d")));
+        check("iterator remove of a base property", !context.containsKey("c") && "base-c".equals(base.get("c")));
+
+        context.clear();
+        check("clear", context.isEmpty() && context.size() == 0 && application.isEmpty()
+                && context.getScopedSnapshot(Scope.APPLICATION).isEmpty());
+        check("base not cleared", base.size() == 4);
+
+        context.reset();
+        check("reset", context.equals(base));
+    }
+
+    private static Map<String, Object> map(Object... entries) {
+        Map<String, Object> map = new HashMap<String, Object>();
+        for (int i = 0; i < entries.length; i += 2) {
+            map.put((String) entries[i], entries[i + 1]);
+        }
+        return map;
+    }
+
+    private static void check(String msg, boolean condition) {
+        if (!condition) {
+            log(" FAILED -  ERROR: " + msg);
+            throw new RuntimeException(msg);
+        }
+        log(" PASSED " + msg);
+    }
+
+    private static void log(String msg) {
+        System.out.println(msg);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package jaxws.httpserver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.xml.ws.spi.http.AsyncHttpHandler;
+import javax.xml.ws.spi.http.HttpExchange;
+import javax.xml.ws.spi.http.HttpHandler;
+
+/**
+ * Tests the reference adapter with synchronous, asynchronous and
+ * {@link AsyncHttpHandler} handlers.
+ */
+public class AdapterTest {
+
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool();
+
+    public static void main(String[] args) throws Exception {
+        JdkHttpServer server = new JdkHttpServer(
+                new InetSocketAddress("localhost", 0), Executors.newFixedThreadPool(2));
+        server.createContext("/sync").setHandler(new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                echo(exchange);
+            }
+        });
+        server.createContext("/fixed").setHandler(new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                byte[] body = "hello".getBytes("UTF-8");
+                exchange.setStatus(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        });
+        server.createContext("/started").setHandler(new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) {
+                exchange.startAsync();
+                WORKERS.execute(() -> {
+                    // the exchange is closed even if echo fails, so that
+                    // the client gets a response and the test fails
+                    try {
+                        try {
+                            echo(exchange);
+                        } finally {
+                            exchange.close();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        });
+        server.createContext("/async").setHandler(new AsyncHttpHandler() {
+            @Override
+            public CompletionStage<Void> handleAsync(HttpExchange exchange) {
+                return CompletableFuture.runAsync(() -> {
+                    try {
+                        echo(exchange);
+                        exchange.close();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }, WORKERS);
+            }
+        });
+        server.createContext("/failed").setHandler(new AsyncHttpHandler() {
+            @Override
+            public CompletionStage<Void> handleAsync(HttpExchange exchange) {
+                CompletableFuture<Void> f = new CompletableFuture<>();
+                f.completeExceptionally(new IOException("failed"));
+                return f;
+            }
+        });
+        server.start();
+        String base = "http://localhost:" + server.getAddress().getPort();
+        try {
+            assertEquals("hello", post(base + "/sync", "hello"), "/sync");
+            assertEquals("hello", post(base + "/fixed", "hello"), "/fixed");
+            assertEquals("hello", post(base + "/started", "hello"), "/started");
+            assertEquals("hello", post(base + "/async", "hello"), "/async");
+            assertEquals("500", post(base + "/failed", "hello"), "/failed");
+        } finally {
+            server.stop(0);
+            WORKERS.shutdown();
+        }
+    }
+
+    private static void echo(HttpExchange exchange) throws IOException {
+        exchange.addResponseHeader("Content-Type", "text/plain");
+        try (InputStream in = exchange.getRequestBody();
+             OutputStream out = exchange.getResponseBody()) {
+            copy(in, out);
+        }
+    }
+
+    static String post(String url, String body) throws IOException {
+        HttpURLConnection con = (HttpURLConnection) new URL(url).openConnection();
+        con.setDoOutput(true);
+        con.setRequestMethod("POST");
+        con.setReadTimeout(10000);
+        try (OutputStream out = con.getOutputStream()) {
+            out.write(body.getBytes("UTF-8"));
+        }
+        int status = con.getResponseCode();
+        if (status != 200) {
+            return String.valueOf(status);
+        }
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        try (InputStream in = con.getInputStream()) {
+            copy(in, buf);
+        }
+        return buf.toString("UTF-8");
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] b = new byte[4096];
+        int n;
+        while ((n = in.read(b)) != -1) {
+            out.write(b, 0, n);
+        }
+    }
+
+    private static void assertEquals(String expected, String actual, String msg) {
+        if (!expected.equals(actual)) {
+            log(" FAILED -  ERROR: " + msg + ": [" + actual + "], expected: [" + expected + "]");
+            throw new RuntimeException(msg);
+        } else {
+            log(" PASSED " + msg);
+        }
+    }
+
+    private static void log(String msg) {
+        System.out.println(msg);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package jaxws.httpserver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import javax.xml.ws.Endpoint;
+import javax.xml.ws.spi.http.HttpExchange;
+import javax.xml.ws.spi.http.HttpHandler;
+
+/**
+ * Load benchmark for the container SPI: measures requests per second and
+ * latency of SOAP requests sent to a {@link JdkHttpServer}.
+ * <p>
+ * In {@code endpoint} mode the requests go to {@link EchoProvider} published
+ * with {@link Endpoint#publish(javax.xml.ws.spi.http.HttpContext)}, so a
+ * JAX-WS implementation must be on the classpath. In {@code raw} mode they
+ * go to a {@link HttpHandler} which writes a fixed response, which gives
+ * the cost of the container and the client alone.
+ * <p>
+ * Options:
+ * <pre>
+ *   -mode endpoint|raw   what handles the requests (endpoint)
+ *   -clients N           number of client threads (8)
+ *   -workers N           size of the server executor; 0 uses the
+ *                        server's dispatcher thread (8)
+ *   -requests N          measured requests per client (10000)
+ *   -warmup N            unmeasured requests per client (2000)
+ * </pre>
+ */
+public class Benchmark {
+
+    private static final String PATH = "/echo";
+
+    private static final byte[] REQUEST = (
+            "<S:Envelope xmlns:S=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<S:Body><echo xmlns=\"urn:jaxws:httpserver\">hello</echo></S:Body>"
+            + "</S:Envelope>").getBytes(StandardCharsets.UTF_8);
+
+    private String mode = "endpoint";
+    private int clients = 8;
+    private int workers = 8;
+    private int requests = 10000;
+    private int warmup = 2000;
+
+    public static void main(String[] args) throws Exception {
+        // chunked responses are written in several small packets, which
+        // otherwise wait for delayed acknowledgements
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        Benchmark b = new Benchmark();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "-mode": b.mode = value; break;
+                case "-clients": b.clients = Integer.parseInt(value); break;
+                case "-workers": b.workers = Integer.parseInt(value); break;
+                case "-requests": b.requests = Integer.parseInt(value); break;
+                case "-warmup": b.warmup = Integer.parseInt(value); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        b.run();
+    }
+
+    private void run() throws Exception {
+        JdkHttpServer server = new JdkHttpServer(new InetSocketAddress("localhost", 0),
+                workers > 0 ? Executors.newFixedThreadPool(workers) : null);
+        JdkHttpContext context = server.createContext(PATH);
+        Endpoint endpoint = null;
+        if ("raw".equals(mode)) {
+            context.setHandler(new RawHandler());
+        } else if ("endpoint".equals(mode)) {
+            endpoint = Endpoint.create(new EchoProvider());
+            endpoint.publish(context);
+        } else {
+            throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+        server.start();
+        try {
+            URL url = new URL("http://localhost:" + server.getAddress().getPort() + PATH);
+            System.out.println("mode=" + mode + " clients=" + clients + " workers=" + workers
+                    + " requests=" + requests + " warmup=" + warmup);
+            load(url, warmup);
+            long[] latencies = load(url, requests);
+            report(latencies);
+        } finally {
+            if (endpoint != null) {
+                endpoint.stop();
+            }
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Sends {@code count} requests from each client thread and returns the
+     * sorted latencies in nanoseconds, with the elapsed time in the last
+     * element.
+     */
+    private long[] load(final URL url, final int count) throws Exception {
+        final long[] latencies = new long[clients * count + 1];
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(clients);
+        final Throwable[] failure = new Throwable[1];
+        for (int c = 0; c < clients; c++) {
+            final int offset = c * count;
+            Thread t = new Thread(() -> {
+                try {
+                    start.await();
+                    byte[] buf = new byte[8192];
+                    for (int i = 0; i < count; i++) {
+                        long t0 = System.nanoTime();
+                        send(url, buf);
+                        latencies[offset + i] = System.nanoTime() - t0;
+                    }
+                } catch (Throwable e) {
+                    synchronized (failure) {
+                        failure[0] = e;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "client-" + c);
+            t.start();
+        }
+        long t0 = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - t0;
+        synchronized (failure) {
+            if (failure[0] != null) {
+                throw new IllegalStateException("Request failed", failure[0]);
+            }
+        }
+        Arrays.sort(latencies, 0, latencies.length - 1);
+        latencies[latencies.length - 1] = elapsed;
+        return latencies;
+    }
+
+    private static void send(URL url, byte[] buf) throws IOException {
+        HttpURLConnection con = (HttpURLConnection) url.openConnection();
+        con.setDoOutput(true);
+        con.setRequestMethod("POST");
+        con.setRequestProperty("Content-Type", "text/xml; charset=utf-8");
+        con.setRequestProperty("SOAPAction", "\"\"");
+        con.setFixedLengthStreamingMode(REQUEST.length);
+        try (OutputStream out = con.getOutputStream()) {
+            out.write(REQUEST);
+        }
+        int status = con.getResponseCode();
+        if (status != 200) {
+            throw new IOException("Unexpected status: " + status);
+        }
+        // read the response fully so that the connection is kept alive
+        try (InputStream in = con.getInputStream()) {
+            while (in.read(buf) != -1) {
+            }
+        }
+    }
+
+    private static void report(long[] latencies) {
+        int n = latencies.length - 1;
+        long elapsed = latencies[n];
+        System.out.printf("throughput: %.0f requests/s%n", n * 1e9 / elapsed);
+        System.out.printf("latency (us): p50=%d p90=%d p99=%d p99.9=%d max=%d%n",
+                percentile(latencies, n, 50.0), percentile(latencies, n, 90.0),
+                percentile(latencies, n, 99.0), percentile(latencies, n, 99.9),
+                latencies[n - 1] / 1000);
+    }
+
+    private static long percentile(long[] sorted, int n, double p) {
+        int i = (int) Math.ceil(p / 100 * n) - 1;
+        return sorted[Math.max(0, Math.min(n - 1, i))] / 1000;
+    }
+
+    /**
+     * Answers every request with a fixed SOAP response, without any
+     * JAX-WS processing.
+     */
+    private static class RawHandler extends HttpHandler {
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] buf = new byte[8192];
+                while (in.read(buf) != -1) {
+                }
+            }
+            exchange.addResponseHeader("Content-Type", "text/xml; charset=utf-8");
+            exchange.setStatus(200, REQUEST.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(REQUEST);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package jaxws.httpserver;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import javax.xml.ws.spi.http.AsyncHttpHandler;
+import javax.xml.ws.spi.http.HttpContext;
+import javax.xml.ws.spi.http.HttpHandler;
+
+/**
+ * Reference {@link HttpContext} on top of the JDK's
+ * {@code com.sun.net.httpserver}, used to test the container SPI
+ * without a servlet container.
+ * <p>
+ * {@link AsyncHttpHandler}s are dispatched through
+ * {@link AsyncHttpHandler#handleAsync}, so the server thread is returned
+ * to the server's executor as soon as the handler returns. Other
+ * handlers are called synchronously; the exchange is completed when
+ * {@code handle} returns unless the handler put it in asynchronous mode.
+ */
+public class JdkHttpContext extends HttpContext {
+
+    private final com.sun.net.httpserver.HttpContext context;
+
+    public JdkHttpContext(com.sun.net.httpserver.HttpServer server, String path) {
+        this.context = server.createContext(path, this::dispatch);
+    }
+
+    public com.sun.net.httpserver.HttpContext getContext() {
+        return context;
+    }
+
+    @Override
+    public String getPath() {
+        return context.getPath();
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return context.getAttributes().get(name);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return context.getAttributes().keySet();
+    }
+
+    private void dispatch(com.sun.net.httpserver.HttpExchange exchange) throws IOException {
+        JdkHttpExchange ex = new JdkHttpExchange(exchange, this);
+        HttpHandler h = handler;
+        if (h == null) {
+            ex.abort(404);
+            return;
+        }
+        if (h instanceof AsyncHttpHandler) {
+            CompletionStage<Void> stage;
+            try {
+                stage = ((AsyncHttpHandler) h).handleAsync(ex);
+            } catch (RuntimeException e) {
+                ex.abort(500);
+                throw e;
+            }
+            stage.whenComplete((v, t) -> {
+                if (t != null) {
+                    ex.abort(500);
+                } else {
+                    ex.complete();
+                }
+            });
+            return;
+        }
+        boolean done = false;
+        try {
+            h.handle(ex);
+            done = true;
+        } finally {
+            if (!done) {
+                ex.abort(500);
+            } else if (!ex.isAsyncStarted()) {
+                ex.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package jaxws.httpserver;
+
+import com.sun.net.httpserver.HttpsExchange;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.ws.spi.http.HttpContext;
+import javax.xml.ws.spi.http.HttpExchange;
+
+/**
+ * Reference {@link HttpExchange} on top of a
+ * {@code com.sun.net.httpserver.HttpExchange}.
+ * <p>
+ * Response headers are sent when the response body is first requested,
+ * or when the exchange is closed without a body. The body is chunked
+ * unless its length has been set.
+ */
+public class JdkHttpExchange extends HttpExchange {
+
+    private final com.sun.net.httpserver.HttpExchange exchange;
+    private final JdkHttpContext context;
+    private int status = 200;
+    private long length = RESPONSE_LENGTH_UNKNOWN;
+    private boolean headersSent;
+    private volatile boolean asyncStarted;
+    private boolean closed;
+
+    public JdkHttpExchange(com.sun.net.httpserver.HttpExchange exchange, JdkHttpContext context) {
+        this.exchange = exchange;
+        this.context = context;
+    }
+
+    @Override
+    public Map<String, List<String>> getRequestHeaders() {
+        return Collections.unmodifiableMap(exchange.getRequestHeaders());
+    }
+
+    @Override
+    public String getRequestHeader(String name) {
+        return exchange.getRequestHeaders().getFirst(name);
+    }
+
+    @Override
+    public Map<String, List<String>> getResponseHeaders() {
+        return exchange.getResponseHeaders();
+    }
+
+    @Override
+    public void addResponseHeader(String name, String value) {
+        exchange.getResponseHeaders().add(name, value);
+    }
+
+    @Override
+    public String getRequestURI() {
+        return exchange.getRequestURI().getRawPath();
+    }
+
+    @Override
+    public String getContextPath() {
+        // com.sun.net.httpserver has no application context, endpoints are
+        // only identified by the path of their HttpContext
+        return "";
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return exchange.getRequestMethod();
+    }
+
+    @Override
+    public HttpContext getHttpContext() {
+        return context;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!headersSent) {
+            headersSent = true;
+            exchange.sendResponseHeaders(status, -1);
+        }
+        exchange.close();
+    }
+
+    @Override
+    public InputStream getRequestBody() throws IOException {
+        return exchange.getRequestBody();
+    }
+
+    @Override
+    public synchronized OutputStream getResponseBody() throws IOException {
+        if (!headersSent) {
+            headersSent = true;
+            // com.sun.net.httpserver uses 0 for chunked and -1 for no body
+            exchange.sendResponseHeaders(status,
+                    length == RESPONSE_LENGTH_UNKNOWN ? 0 : length == 0 ? -1 : length);
+        }
+        return exchange.getResponseBody();
+    }
+
+    @Override
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    @Override
+    public void setResponseLength(long length) {
+        if (length < RESPONSE_LENGTH_UNKNOWN) {
+            throw new IllegalArgumentException("Invalid response length: " + length);
+        }
+        this.length = length;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return exchange.getRemoteAddress();
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return exchange.getLocalAddress();
+    }
+
+    @Override
+    public String getProtocol() {
+        return exchange.getProtocol();
+    }
+
+    @Override
+    public String getScheme() {
+        return exchange instanceof HttpsExchange ? "https" : "http";
+    }
+
+    @Override
+    public String getPathInfo() {
+        // request URI = context path + path of the HttpContext + path info
+        String prefix = getContextPath() + context.getPath();
+        if (prefix.endsWith("/")) {
+            prefix = prefix.substring(0, prefix.length() - 1);
+        }
+        String path = exchange.getRequestURI().getPath();
+        return path.length() > prefix.length() && path.startsWith(prefix) && path.charAt(prefix.length()) == '/'
+                ? path.substring(prefix.length())
+                : null;
+    }
+
+    @Override
+    public String getQueryString() {
+        URI uri = exchange.getRequestURI();
+        return uri.getRawQuery();
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        // the only attribute, see getAttributeNames
+        if (REQUEST_CIPHER_SUITE.equals(name) && exchange instanceof HttpsExchange) {
+            return ((HttpsExchange) exchange).getSSLSession().getCipherSuite();
+        }
+        return null;
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return exchange instanceof HttpsExchange
+                ? Collections.singleton(REQUEST_CIPHER_SUITE)
+                : Collections.<String>emptySet();
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return exchange.getPrincipal();
+    }
+
+    @Override
+    public boolean isUserInRole(String role) {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void startAsync() {
+        if (closed) {
+            throw new IllegalStateException("Exchange is already complete");
+        }
+        asyncStarted = true;
+    }
+
+    boolean isAsyncStarted() {
+        return asyncStarted;
+    }
+
+    /**
+     * Completes the exchange if the handler did not close it.
+     */
+    void complete() {
+        try {
+            close();
+        } catch (IOException e) {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Completes the exchange with an error status, or just closes it
+     * if the response has already been started.
+     */
+    synchronized void abort(int errorStatus) {
+        if (closed) {
+            return;
+        }
+        if (!headersSent) {
+            status = errorStatus;
+        }
+        complete();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package jaxws.httpserver;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Reference container on top of the JDK's {@code com.sun.net.httpserver}.
+ * Creates {@link JdkHttpContext}s, which can be used with
+ * {@code javax.xml.ws.Endpoint.publish(HttpContext)}.
+ * <p>
+ * Requests are handled by the given executor. With a {@code null}
+ * executor they are handled by the server's dispatcher thread, which
+ * serializes all requests.
+ */
+public class JdkHttpServer {
+
+    private final HttpServer server;
+    private final Executor executor;
+
+    public JdkHttpServer(InetSocketAddress address, Executor executor) throws IOException {
+        this.server = HttpServer.create(address, 0);
+        this.executor = executor;
+        server.setExecutor(executor);
+    }
+
+    public JdkHttpContext createContext(String path) {
+        return new JdkHttpContext(server, path);
+    }
+
+    public void removeContext(JdkHttpContext context) {
+        server.removeContext(context.getContext());
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops the server, and shuts the executor down if it is an
+     * {@link ExecutorService}.
+     */
+    public void stop(int delay) {
+        server.stop(delay);
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package jaxws.httpserver;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.xml.ws.spi.http.HttpContext;
+import javax.xml.ws.spi.http.HttpExchange;
+
+/**
+ * Tests the default {@link HttpExchange#getSOAPAction} and
+ * {@link HttpExchange#getRequestContentType} implementations.
+ */
+public class SOAPActionTest {
+
+    public static void main(String[] args) {
+        // SOAP 1.1
+        test("urn:a", "SOAPAction", "\"urn:a\"", "Content-Type", "text/xml");
+        test("urn:a", "soapaction", "urn:a");
+        test("", "SOAPAction", "\"\"");
+        // SOAP 1.2
+        test("urn:b", "Content-Type", "application/soap+xml;action=urn:b");
+        test("urn:b", "Content-Type", "application/soap+xml; charset=utf-8; Action = \"urn:b\"");
+        test("urn:b;c", "Content-Type", "application/soap+xml; action=\"urn:b;c\"; charset=utf-8");
+        test("urn:y", "Content-Type", "application/soap+xml; foo; action=urn:y");
+        test("urn:y", "Content-Type", "application/soap+xml; foo=\"a;action=urn:x\"; action=urn:y");
+        test("", "Content-Type", "application/soap+xml; action=\"\"");
+        // SOAPAction header takes precedence
+        test("urn:a", "SOAPAction", "urn:a", "Content-Type", "application/soap+xml; action=urn:b");
+        // no action
+        test(null, "Content-Type", "application/soap+xml; charset=utf-8");
+        test(null, "Content-Type", "application/soap+xml; action");
+        test(null, "Content-Type", "text/xml");
+        test(null);
+    }
+
+    private static void test(String expected, String... headers) {
+        Map<String, String> map = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < headers.length; i += 2) {
+            map.put(headers[i], headers[i + 1]);
+        }
+        String actual = new Exchange(map).getSOAPAction();
+        String msg = map.toString();
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            log(" FAILED -  ERROR: " + msg + ": [" + actual + "], expected: [" + expected + "]");
+            throw new RuntimeException(msg);
+        } else {
+            log(" PASSED " + msg);
+        }
+    }
+
+    private static void log(String msg) {
+        System.out.println(msg);
+    }
+
+    /**
+     * Exchange with the given request headers only.
+     */
+    private static class Exchange extends HttpExchange {
+
+        private final Map<String, String> headers;
+
+        Exchange(Map<String, String> headers) {
+            this.headers = headers;
+        }
+
+        @Override
+        public String getRequestHeader(String name) {
+            return headers.get(name);
+        }
+
+        @Override
+        public Map<String, List<String>> getRequestHeaders() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, List<String>> getResponseHeaders() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addResponseHeader(String name, String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getRequestURI() {
+            return "/";
+        }
+
+        @Override
+        public String getContextPath() {
+            return "";
+        }
+
+        @Override
+        public String getRequestMethod() {
+            return "POST";
+        }
+
+        @Override
+        public HttpContext getHttpContext() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public InputStream getRequestBody() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OutputStream getResponseBody() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setStatus(int status) {
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public String getProtocol() {
+            return "HTTP/1.1";
+        }
+
+        @Override
+        public String getScheme() {
+            return "http";
+        }
+
+        @Override
+        public String getPathInfo() {
+            return null;
+        }
+
+        @Override
+        public String getQueryString() {
+            return null;
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return null;
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Principal getUserPrincipal() {
+            return null;
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            return false;
+        }
+    }
+}